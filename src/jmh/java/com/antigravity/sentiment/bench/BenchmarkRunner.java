@@ -0,0 +1,29 @@
+package com.antigravity.sentiment.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks (or those matching args[0]) with the GC profiler, so
+ * every result shows ops/s and gc.alloc.rate.norm (bytes allocated per op).
+ * Results are also written to target/jmh-result.json for regression checks.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.antigravity.sentiment.bench;
+
+import com.antigravity.sentiment.logic.SentimentCrawler;
+import com.antigravity.sentiment.model.AssetSnapshot;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full crawl over a generated asset tree (serial and parallel).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrawlBenchmark {
+
+    @Param({ "100" })
+    public int assets;
+
+    @Param({ "5" })
+    public int filesPerAsset;
+
+    @Param({ "4096" })
+    public int fileSizeBytes;
+
+    @Param({ "1", "4" })
+    public int parallelism;
+
+    private File root;
+    private SentimentCrawler crawler;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("sentiment-crawl-bench").toFile();
+        ReportFixtures.writeTree(root, assets, filesPerAsset, fileSizeBytes);
+        crawler = new SentimentCrawler(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReportFixtures.deleteDir(root);
+    }
+
+    @Benchmark
+    public List<AssetSnapshot> crawl() {
+        return crawler.crawl(root.getAbsolutePath());
+    }
+}
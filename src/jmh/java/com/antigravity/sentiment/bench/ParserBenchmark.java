@@ -0,0 +1,81 @@
+package com.antigravity.sentiment.bench;
+
+import com.antigravity.sentiment.logic.FullAnalysisParser;
+import com.antigravity.sentiment.logic.ReportParser;
+import com.antigravity.sentiment.logic.SentimentCrawler;
+import com.antigravity.sentiment.model.FullAnalysisData;
+import com.antigravity.sentiment.model.ReportDates;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single-report hot paths: full analysis parsing per format variant, legacy
+ * report parsing, date parsing and signal determination.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @State(Scope.Thread)
+    public static class Variant {
+        @Param({ "OLD_RATIO", "NEW_POSITION", "DOUBLE_HASH", "ENGLISH_DATE" })
+        public String variant;
+
+        final FullAnalysisParser parser = new FullAnalysisParser();
+        final SentimentCrawler crawler = new SentimentCrawler();
+        String content;
+        FullAnalysisData parsed;
+
+        @Setup
+        public void setup() {
+            content = ReportFixtures.fullAnalysis(variant);
+            parsed = parser.parseFullAnalysis(content);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Dates {
+        @Param({ "2026-01-09", "Mo 5.1.26" })
+        public String date;
+    }
+
+    @State(Scope.Thread)
+    public static class Legacy {
+        final ReportParser parser = new ReportParser();
+    }
+
+    @Benchmark
+    public FullAnalysisData parseFullAnalysis(Variant state) {
+        return state.parser.parseFullAnalysis(state.content);
+    }
+
+    @Benchmark
+    public String determineSignal(Variant state) {
+        return state.crawler.determineSignal(state.parsed);
+    }
+
+    @Benchmark
+    public List<ReportParser.DayForecast> parseLegacyReport(Legacy state) {
+        return state.parser.parseContent(ReportFixtures.LEGACY_REPORT);
+    }
+
+    @Benchmark
+    public LocalDate parseDate(Dates state) {
+        return ReportDates.parseDate(state.date);
+    }
+}
@@ -0,0 +1,171 @@
+package com.antigravity.sentiment.bench;
+
+import com.antigravity.sentiment.logic.ReportCorpusGenerator;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Sample reports for the benchmarks, one per known format variant.
+ */
+final class ReportFixtures {
+
+    private ReportFixtures() {
+    }
+
+    /** Old FXSSI "Ratio (Long/Short)" format with "###" headers and Trend-Start/Range wording. */
+    static final String OLD_RATIO = "### SECTION_0_DATEN_BASIS\n" +
+            "Ratio (Long/Short): 41% / 59%\n" +
+            "### SECTION_1_RISIKO_PROFIL\n" +
+            "Datum: 2026-01-09\n" +
+            "Wahrscheinlichkeit Range/Reversion: 75%\n" +
+            "Wahrscheinlichkeit Trend-Start: 25%\n" +
+            "### SECTION_2_LOGISCHE_HERLEITUNG\n" +
+            "Ergebnis Bias: NEUTRAL\n" +
+            "Some text here.\n" +
+            "### SECTION_3_ROBOTER_STEUERUNG\n" +
+            "CSV_SIGNAL: NEUTRAL\n" +
+            "### SECTION_4_BEGRUENDUNGEN\n" +
+            "1) Titel Eins\n" +
+            "Inhalt Eins.\n" +
+            "2) Titel Zwei\n" +
+            "Inhalt Zwei.";
+
+    /** New FXSSI "Long Position" format with consensus, RSI, ATR, VIX and Runaway-Trend wording. */
+    static final String NEW_POSITION = "### SECTION_0_RECHERCHE_ERGEBNISSE\n" +
+            "Instrument: AUDUSD  \n" +
+            "Datum: 2026-01-09  \n" +
+            "FXSSI SENTIMENT (von https://fxssi.com/tools/):\n" +
+            "- Long Position: 30%. ([fxssi.com](https://fxssi.com/tools/))  \n" +
+            "- Short Position: 70%. ([fxssi.com](https://fxssi.com/tools/))  \n" +
+            "\n" +
+            "ANALYSTEN-KONSENS (1-3 Tage):\n" +
+            "Quelle 1 - DailyFX: Neutral...\n" +
+            "Konsens: 2 von 4 Quellen kurzfristig Bullish (FXStreet, MarketPulse/DailyForex)...\n" +
+            "\n" +
+            "Technische Überdehnung:\n" +
+            "- RSI (14): Investing.com 42.48 → neutral/leicht bearish...\n" +
+            "- ATR: niedrige bis mittlere Volatilität (andere zeigen ATR ~0.004...)\n" +
+            "- VIX Index: ca. 14–15 (kein Paniklevel...)\n" +
+            "\n" +
+            "### SECTION_1_MEAN_REVERSION_SETUP\n" +
+            "Reversion-Wahrscheinlichkeit: 35%  \n" +
+            "Trend-Fortsetzungs-Risiko: 65%  \n" +
+            "Grid-Sicherheit (nächste 1-3 Tage):\n" +
+            "- Range-Trading Chance: 40%  \n" +
+            "- Runaway-Trend Risiko: 60%  \n" +
+            "\n" +
+            "### SECTION_2_SIGNAL_HERLEITUNG\n" +
+            "SCHRITT 1 - Panic Check:\n" +
+            "Status: Sicher (kein PANIC). VIX ≈ 14–15...\n" +
+            "Finaler Bias: Neutral (kein neues Grid-Bias)\n" +
+            "\n" +
+            "### SECTION_3_ROBOTER_SIGNAL\n" +
+            "CSV_SIGNAL: BUY\n" +
+            "\n" +
+            "### SECTION_4_DETAILLIERTE_BEGRUENDUNG\n" +
+            "1) Begründung des CSV_SIGNALS\n" +
+            "- FXSSI zeigt Short-Überhang. Contrarian Long. Dritter Satz.\n" +
+            "2) Crowd-Psychologie (FXSSI)\n" +
+            "- Retail ist short.\n";
+
+    /** "##" headers mixed with "###" headers. */
+    static final String DOUBLE_HASH = "## SECTION_0_RECHERCHE_ERGEBNISSE\n" +
+            "Instrument: EURUSD\n" +
+            "Datum: 2026-01-09\n" +
+            "FXSSI Sentiment:\n" +
+            "- Long Position: 42%\n" +
+            "- Short Position: 58%\n" +
+            "Technische Überdehnung:\n" +
+            "- RSI (14): 37.135 → Neutral / leicht unter Druck (nicht überverkauft).\n" +
+            "\n" +
+            "## SECTION_1_MEAN_REVERSION_SETUP\n" +
+            "Reversion-Wahrscheinlichkeit: 35%  \n" +
+            "Trend-Fortsetzungs-Risiko: 65%  \n" +
+            "\n" +
+            "## SECTION_2_SIGNAL_HERLEITUNG\n" +
+            "SCHRITT 1 - Panic Check:\n" +
+            "Status: Sicher  \n" +
+            "Finaler Bias: Neutral (vorsichtig gegenüber Short-Fortsetzung)\n" +
+            "\n" +
+            "### SECTION_3_ROBOTER_SIGNAL\n" +
+            "CSV_SIGNAL: NEUTRAL\n" +
+            "Risiko-Level: MEDIUM\n" +
+            "\n" +
+            "## SECTION_4_DETAILLIERTE_BEGRUENDUNG\n" +
+            "1) Begründung des CSV_SIGNALS  \n" +
+            "- FXSSI zeigt kein extremes Herd-Positioning (42/58)...\n" +
+            "2) Crowd-Psychologie (FXSSI)  \n" +
+            "- Retail hat leichtes Short-Übergewicht...";
+
+    /** English textual date ("January 9, 2026") and English consensus ("1 of 4"). */
+    static final String ENGLISH_DATE = "### SECTION_0_RECHERCHE_ERGEBNISSE\n" +
+            "Instrument: AUDJPY\n" +
+            "- Long Position: 33%.\n" +
+            "- Short Position: 67%.\n" +
+            "ANALYSTEN-KONSENS (1-3 Tage):\n" +
+            "Konsens: 1 of 4 sources Bullish / 2 of 4 Mixed / 1 of 4 Bearish.\n" +
+            "Technische Überdehnung:\n" +
+            "- RSI (14): ~49.4 → Neutral.\n" +
+            "- ATR (14): 0.1014 → \"Less Volatility\".\n" +
+            "- VIX Index: ≈16–17 (normal/low...)\n" +
+            "### SECTION_1_RISIKO_PROFIL\n" +
+            "Datum: January 9, 2026\n" +
+            "Wahrscheinlichkeit Range/Reversion: 60%\n" +
+            "Wahrscheinlichkeit Trend-Start: 40%\n" +
+            "### SECTION_2_LOGISCHE_HERLEITUNG\n" +
+            "Ergebnis Bias: SHORT\n" +
+            "### SECTION_3_ROBOTER_SIGNAL\n" +
+            "CSV_SIGNAL: SELL\n";
+
+    /** Legacy day-by-day format handled by ReportParser. */
+    static final String LEGACY_REPORT = "**Montag, 5. Januar 2026:**\n" +
+            "\n" +
+            "Wahrscheinlichkeit, dass Gold steigt: 35%\n" +
+            "Wahrscheinlichkeit, dass Gold seitwärts geht: 40%\n" +
+            "Wahrscheinlichkeit, dass Gold fällt: 25%\n" +
+            "\n" +
+            "**Dienstag, 6. Januar 2026:**\n" +
+            "\n" +
+            "Wahrscheinlichkeit, dass Gold steigt: 40%\n" +
+            "Wahrscheinlichkeit, dass Gold seitwärts geht: 30%\n" +
+            "Wahrscheinlichkeit, dass Gold fällt: 30%\n" +
+            "\n" +
+            "Datum: 2026-01-11\n" +
+            "Wahrscheinlichkeit Range/Reversion: 60%\n" +
+            "Wahrscheinlichkeit Trend-Start: 40%\n" +
+            "\n" +
+            "Für die kommende Woche vom 05.01. bis 10.01.2026 gilt:";
+
+    static String fullAnalysis(String variant) {
+        switch (variant) {
+            case "OLD_RATIO":
+                return OLD_RATIO;
+            case "NEW_POSITION":
+                return NEW_POSITION;
+            case "DOUBLE_HASH":
+                return DOUBLE_HASH;
+            case "ENGLISH_DATE":
+                return ENGLISH_DATE;
+            default:
+                throw new IllegalArgumentException("Unknown variant: " + variant);
+        }
+    }
+
+    /**
+     * Writes a deterministic tree with all format variants, see
+     * {@link ReportCorpusGenerator}.
+     */
+    static void writeTree(File root, int assets, int filesPerAsset, int fileSizeBytes) throws IOException {
+        new ReportCorpusGenerator(42L).generate(root, assets, filesPerAsset, fileSizeBytes);
+    }
+
+    static void deleteDir(File file) {
+        File[] contents = file.listFiles();
+        if (contents != null) {
+            for (File f : contents) {
+                deleteDir(f);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,51 @@
+package com.antigravity.sentiment;
+
+import com.antigravity.sentiment.config.ConfigManager;
+import com.antigravity.sentiment.logic.SentimentCrawler;
+import com.antigravity.sentiment.logic.SignalCsvExporter;
+import com.antigravity.sentiment.model.AssetSnapshot;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Headless batch mode: crawls the root folder and writes
+ * last_known_signals.csv, same signals as the "Export CSV" button.
+ * Loads no JavaFX classes, so it can run from cron or n8n right after new
+ * reports arrived (with the parse index only new reports are parsed).
+ *
+ * Usage: SentimentCli [rootPath] [exportDir]
+ * Without arguments the paths from config/settings.properties are used.
+ * The CSV is only rewritten if a signal changed.
+ * Safe to run while the GUI or the daemon is open: they share the parse
+ * index and history store in config/, every save goes through its own temp
+ * file, so concurrent saves never corrupt each other (the last one wins).
+ * Exit code 0 = written or unchanged, 1 = no root folder, 2 = CSV could not be written.
+ */
+public class SentimentCli {
+
+    public static void main(String[] args) {
+        ConfigManager config = new ConfigManager();
+        String rootPath = args.length > 0 ? args[0] : config.getRootPath();
+        String exportPath = args.length > 1 ? args[1] : config.getCsvExportPath();
+
+        if (rootPath == null || !new File(rootPath).isDirectory()) {
+            System.err.println("Root folder not found: " + rootPath);
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        SentimentCrawler crawler = new SentimentCrawler(config);
+        List<AssetSnapshot> rows = crawler.crawl(rootPath);
+
+        try {
+            File file = new File(exportPath, SignalCsvExporter.FILE_NAME);
+            boolean written = SignalCsvExporter.write(rows, file);
+            System.out.println(rows.size() + " signals " + (written ? "written to " : "unchanged in ")
+                    + file.getAbsolutePath() + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (IOException e) {
+            System.err.println("Could not write CSV: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.antigravity.sentiment;
+
+import com.antigravity.sentiment.config.ConfigManager;
+import com.antigravity.sentiment.logic.ReportWatcher;
+import com.antigravity.sentiment.logic.SentimentCrawler;
+import com.antigravity.sentiment.logic.SignalServer;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Daemon mode without GUI: crawls once, keeps the result in memory and
+ * serves it on http://localhost:{port}/signals and /history/{asset}. The
+ * report watcher re-parses only changed asset folders, so pollers see new
+ * reports right after they arrive instead of waiting for a synced CSV.
+ *
+ * Usage: SentimentDaemon [rootPath] [port]
+ * Without arguments the root path and daemon.port from the settings are used.
+ */
+public class SentimentDaemon {
+
+    public static void main(String[] args) {
+        ConfigManager config = new ConfigManager();
+        String rootPath = args.length > 0 ? args[0] : config.getRootPath();
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : config.getDaemonPort();
+
+        if (rootPath == null || !new File(rootPath).isDirectory()) {
+            System.err.println("Root folder not found: " + rootPath);
+            System.exit(1);
+        }
+
+        SentimentCrawler crawler = new SentimentCrawler(config);
+        SignalServer server = new SignalServer(crawler, rootPath);
+        server.refreshAll();
+        try {
+            server.start(port);
+        } catch (IOException e) {
+            System.err.println("Could not start signal endpoint on port " + port + ": " + e.getMessage());
+            System.exit(2);
+        }
+
+        ReportWatcher watcher = new ReportWatcher(new File(rootPath), config.getWatchPollIntervalMs(),
+                config.isWatchPolling(), server::refreshAssetFolder);
+        watcher.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            watcher.close();
+            server.close();
+        }, "signal-daemon-shutdown"));
+
+        System.out.println("Serving signals of " + rootPath + " on http://localhost:" + server.getPort()
+                + "/signals" + (watcher.isPolling() ? " (polling)" : ""));
+    }
+}
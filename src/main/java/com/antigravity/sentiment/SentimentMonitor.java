@@ -2,10 +2,16 @@ package com.antigravity.sentiment;
 
 import com.antigravity.sentiment.config.ConfigManager;
 import com.antigravity.sentiment.logic.CsvSignalImporter;
+import com.antigravity.sentiment.logic.ReportWatcher;
 import com.antigravity.sentiment.logic.SentimentCrawler;
+import com.antigravity.sentiment.logic.SignalCsvExporter;
+import com.antigravity.sentiment.model.AssetSnapshot;
 import com.antigravity.sentiment.model.ForecastData;
 import com.antigravity.sentiment.model.HistoryData;
+import com.antigravity.sentiment.model.HistoryEntry;
+import com.antigravity.sentiment.ui.CrawlTask;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Scene;
@@ -19,6 +25,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 public class SentimentMonitor extends Application {
@@ -27,6 +34,11 @@ public class SentimentMonitor extends Application {
     private SentimentCrawler crawler;
     private TableView<ForecastData> table;
     private ObservableList<ForecastData> tableData;
+    private ReportWatcher watcher;
+    private int watcherGeneration; // FX thread only; updates of a stopped watcher are dropped
+    private CrawlTask crawlTask;
+    private ProgressBar crawlProgress;
+    private Label crawlStatus;
 
     public static void main(String[] args) {
         launch(args);
@@ -35,7 +47,7 @@ public class SentimentMonitor extends Application {
     @Override
     public void start(Stage primaryStage) {
         configManager = new ConfigManager();
-        crawler = new SentimentCrawler();
+        crawler = new SentimentCrawler(configManager);
         tableData = FXCollections.observableArrayList();
 
         primaryStage.setTitle("Sentiment Monitor - JavaFX");
@@ -56,7 +68,15 @@ public class SentimentMonitor extends Application {
         btnExport.setStyle("-fx-font-weight: bold; -fx-base: #e0e0e0;");
         btnExport.setOnAction(e -> exportToCsv());
 
+        crawlProgress = new ProgressBar(0);
+        crawlProgress.setPrefWidth(200);
+        crawlProgress.setVisible(false);
+        crawlStatus = new Label();
+        javafx.scene.layout.HBox statusBox = new javafx.scene.layout.HBox(10, crawlProgress, crawlStatus);
+        statusBox.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+
         BorderPane bottomPane = new BorderPane();
+        bottomPane.setLeft(statusBox);
         bottomPane.setRight(btnExport);
         bottomPane.setPadding(new javafx.geometry.Insets(5, 10, 5, 10));
         root.setBottom(bottomPane);
@@ -132,36 +152,17 @@ public class SentimentMonitor extends Application {
             return;
         }
 
-        File file = new File(path, "last_known_signals.csv");
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("Waehrungspaar;Letztes_Signal\n");
-
+        List<AssetSnapshot> rows = new ArrayList<>();
         for (ForecastData fd : tableData) {
-            String sig = fd.getSignal().toUpperCase();
-            String outSig = "NEUTRAL";
-            if (sig.equals("STEIGT"))
-                outSig = "BUY";
-            else if (sig.equals("FAELLT"))
-                outSig = "SELL";
-            else if (sig.equals("SEITWAERTS"))
-                outSig = "NEUTRAL";
-            else if (sig.equals("PANIC"))
-                outSig = "STOP"; // Match UI display
-
-            String assetName = fd.getAsset();
-            if (assetName.equalsIgnoreCase("XAUUSD"))
-                assetName = "GOLD";
-            if (assetName.equalsIgnoreCase("XAGUSD"))
-                assetName = "SILVER";
-
-            sb.append(assetName).append(";").append(outSig).append("\n"); // Changed getAssetName to getAsset
+            rows.add(fd.getSnapshot());
         }
 
         try {
-            java.nio.file.Files.writeString(file.toPath(), sb.toString());
+            File file = new File(path, SignalCsvExporter.FILE_NAME);
+            boolean written = SignalCsvExporter.write(rows, file);
             Alert alert = new Alert(Alert.AlertType.INFORMATION,
-                    "CSV erfolgreich exportiert nach:\n" + file.getAbsolutePath());
+                    (written ? "CSV erfolgreich exportiert nach:\n" : "Keine Signaländerung, CSV unverändert:\n")
+                            + file.getAbsolutePath());
             alert.showAndWait();
         } catch (Exception ex) {
             Alert alert = new Alert(Alert.AlertType.ERROR, "Fehler beim Speichern:\n" + ex.getMessage());
@@ -192,6 +193,8 @@ public class SentimentMonitor extends Application {
             }
 
             // Replace existing data with imported data
+            cancelCrawl();
+            stopWatcher(); // crawled rows must not be mixed into the imported table
             tableData.clear();
             tableData.addAll(imported);
 
@@ -451,7 +454,7 @@ public class SentimentMonitor extends Application {
         historyStage.setTitle("Historie: " + data.getAsset());
 
         // Load data first
-        List<HistoryData> history = crawler.loadHistory(data.getAssetPath());
+        List<HistoryEntry> history = crawler.loadHistory(data.getAssetPath());
 
         // Create chart
         javafx.scene.chart.CategoryAxis xAxis = new javafx.scene.chart.CategoryAxis();
@@ -478,11 +481,12 @@ public class SentimentMonitor extends Application {
         seriesFaellt.setName("Fällt");
 
         // Populate series
-        for (HistoryData hd : history) {
-            String date = hd.dateProperty().get();
-            int upVal = parsePercentage(hd.upProperty().get());
-            int sideVal = parsePercentage(hd.sidewaysProperty().get());
-            int downVal = parsePercentage(hd.downProperty().get());
+        for (HistoryEntry hd : history) {
+            String date = hd.date();
+            // MISSING (-1) is drawn as 0
+            int upVal = Math.max(0, hd.up());
+            int sideVal = Math.max(0, hd.sideways());
+            int downVal = Math.max(0, hd.down());
 
             seriesSteigt.getData().add(new javafx.scene.chart.XYChart.Data<>(date, upVal));
             seriesSeitwaerts.getData().add(new javafx.scene.chart.XYChart.Data<>(date, sideVal));
@@ -604,7 +608,11 @@ public class SentimentMonitor extends Application {
         colDown.setCellValueFactory(new PropertyValueFactory<>("down"));
 
         historyTable.getColumns().addAll(colDate, colSignal, colUp, colSide, colDown);
-        historyTable.setItems(FXCollections.observableArrayList(history));
+        ObservableList<HistoryData> historyRows = FXCollections.observableArrayList();
+        for (HistoryEntry entry : history) {
+            historyRows.add(new HistoryData(entry));
+        }
+        historyTable.setItems(historyRows);
         historyTable.getSortOrder().add(colDate);
 
         // Add click handler for detailed analysis and style rows
@@ -631,7 +639,8 @@ public class SentimentMonitor extends Application {
                     HistoryData rowData = row.getItem();
                     String filePath = rowData.getSourceFilePath();
                     if (filePath != null && !filePath.isEmpty()) {
-                        com.antigravity.sentiment.ui.AnalysisDetailWindow detailWindow = new com.antigravity.sentiment.ui.AnalysisDetailWindow();
+                        com.antigravity.sentiment.ui.AnalysisDetailWindow detailWindow = new com.antigravity.sentiment.ui.AnalysisDetailWindow(
+                                crawler);
                         detailWindow.show(data.getAsset(), rowData.dateProperty().get(), filePath);
                     } else {
                         Alert alert = new Alert(Alert.AlertType.WARNING);
@@ -716,29 +725,121 @@ public class SentimentMonitor extends Application {
         }
     }
 
-    private int parsePercentage(String percentStr) {
-        try {
-            return Integer.parseInt(percentStr.replace("%", "").trim());
-        } catch (NumberFormatException e) {
-            return 0;
-        }
-    }
-
+    // Crawls in the background, rows appear in batches. A running crawl is cancelled first.
     private void loadData(String path) {
+        cancelCrawl();
+        stopWatcher();
         tableData.clear();
-        List<ForecastData> data = crawler.crawl(path);
 
-        if (data.isEmpty()) {
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle("Keine Daten");
-            alert.setHeaderText(null);
-            alert.setContentText("Es wurden keine gültigen Daten im Verzeichnis gefunden: " + path);
+        CrawlTask task = new CrawlTask(crawler, path, tableData::addAll);
+        crawlTask = task;
+        long fallbacksBefore = crawler.getDateFallbackCount();
+        long abortsBefore = crawler.getRegexAbortCount();
+
+        crawlProgress.progressProperty().bind(task.progressProperty());
+        crawlStatus.textProperty().bind(task.messageProperty());
+        crawlProgress.setVisible(true);
+
+        task.setOnSucceeded(e -> {
+            finishCrawl(task);
+            List<AssetSnapshot> data = task.getValue();
+            String status = data.size() + " Assets geladen";
+            long fallbacks = crawler.getDateFallbackCount() - fallbacksBefore;
+            if (fallbacks > 0)
+                status += ", " + fallbacks + " Berichte ohne Datum im Kopf";
+            long aborts = crawler.getRegexAbortCount() - abortsBefore;
+            if (aborts > 0)
+                status += ", " + aborts + " Felder übersprungen (Regex-Limit)";
+            crawlStatus.setText(status);
+
+            if (data.isEmpty()) {
+                Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                alert.setTitle("Keine Daten");
+                alert.setHeaderText(null);
+                alert.setContentText("Es wurden keine gültigen Daten im Verzeichnis gefunden: " + path);
+                alert.showAndWait();
+            }
+            startWatcher(path);
+        });
+        task.setOnFailed(e -> {
+            finishCrawl(task);
+            crawlStatus.setText("Fehler beim Laden");
+            Alert alert = new Alert(Alert.AlertType.ERROR,
+                    "Fehler beim Laden der Daten:\n" + task.getException().getMessage());
             alert.showAndWait();
-        } else {
-            tableData.addAll(data);
+        });
+
+        Thread thread = new Thread(task, "crawl");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void cancelCrawl() {
+        if (crawlTask != null) {
+            // No interrupt: the crawler stops after the current folder and still saves the index
+            crawlTask.cancel(false);
+            finishCrawl(crawlTask);
         }
     }
 
+    private void finishCrawl(CrawlTask task) {
+        if (crawlTask != task)
+            return;
+        crawlTask = null;
+        crawlProgress.progressProperty().unbind();
+        crawlStatus.textProperty().unbind();
+        crawlProgress.setVisible(false);
+    }
+
+    private void startWatcher(String path) {
+        stopWatcher();
+        if (!configManager.isWatchEnabled())
+            return;
+
+        int generation = watcherGeneration;
+        watcher = new ReportWatcher(new File(path), configManager.getWatchPollIntervalMs(),
+                configManager.isWatchPolling(), assetDir -> refreshAssetFolder(assetDir, generation));
+        watcher.start();
+    }
+
+    private void stopWatcher() {
+        watcherGeneration++;
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    // Called on the watcher thread: parse there, then swap only the affected row
+    private void refreshAssetFolder(File assetDir, int generation) {
+        String assetPath = assetDir.getAbsolutePath();
+        AssetSnapshot snapshot = crawler.crawlAssetFolder(assetPath);
+        ForecastData updated = snapshot != null ? new ForecastData(snapshot) : null;
+
+        Platform.runLater(() -> {
+            // Parsed while the table was reset (reload, CSV import): not this table's row
+            if (generation != watcherGeneration)
+                return;
+            for (int i = 0; i < tableData.size(); i++) {
+                if (tableData.get(i).getAssetPath().equals(assetPath)) {
+                    if (updated != null)
+                        tableData.set(i, updated);
+                    else
+                        tableData.remove(i);
+                    return;
+                }
+            }
+            if (updated != null)
+                tableData.add(updated);
+        });
+    }
+
+    @Override
+    public void stop() {
+        cancelCrawl();
+        stopWatcher();
+    }
+
     private void toggleSeries(javafx.scene.chart.LineChart<String, Number> chart,
             javafx.scene.chart.XYChart.Series<String, Number> series, boolean show) {
         // Use visibility to show/hide series without removing from chart to avoid
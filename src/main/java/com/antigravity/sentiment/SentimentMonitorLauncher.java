@@ -1,7 +1,19 @@
 package com.antigravity.sentiment;
 
+import java.util.Arrays;
+
 public class SentimentMonitorLauncher {
     public static void main(String[] args) {
+        // "--export [rootPath] [exportDir]": headless CSV export, JavaFX is not loaded
+        if (args.length > 0 && args[0].equals("--export")) {
+            SentimentCli.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        // "--daemon [rootPath] [port]": local HTTP/JSON signal endpoint
+        if (args.length > 0 && args[0].equals("--daemon")) {
+            SentimentDaemon.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         SentimentMonitor.main(args);
     }
 }
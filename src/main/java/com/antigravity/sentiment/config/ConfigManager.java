@@ -13,6 +13,18 @@ public class ConfigManager {
     private static final String KEY_THRESHOLD_UP = "threshold.up";
     private static final String KEY_THRESHOLD_DOWN = "threshold.down";
     private static final String KEY_CSV_EXPORT_PATH = "csv.export.path";
+    private static final String KEY_CRAWL_PARALLELISM = "crawl.parallelism";
+    private static final String KEY_PARSE_INDEX_ENABLED = "parse.index.enabled";
+    private static final String KEY_PARSE_INDEX_FILE = "parse.index.file";
+    private static final String KEY_PARSE_INDEX_HASH = "parse.index.hash";
+    private static final String KEY_WATCH_ENABLED = "watch.enabled";
+    private static final String KEY_WATCH_POLLING = "watch.polling";
+    private static final String KEY_WATCH_POLL_INTERVAL = "watch.poll.interval.ms";
+    private static final String KEY_ANALYSIS_CACHE_MB = "analysis.cache.mb";
+    private static final String KEY_DATE_WINDOW = "parse.date.window";
+    private static final String KEY_DAEMON_PORT = "daemon.port";
+    private static final String KEY_HISTORY_STORE_ENABLED = "history.store.enabled";
+    private static final String KEY_HISTORY_STORE_DIR = "history.store.dir";
 
     private Properties properties;
     private File configFile;
@@ -84,4 +96,108 @@ public class ConfigManager {
         properties.setProperty(KEY_CSV_EXPORT_PATH, path);
         saveConfig();
     }
+
+    /**
+     * Number of asset folders parsed concurrently during a crawl.
+     * 1 = serial crawl. Defaults to the number of available processors.
+     */
+    public int getCrawlParallelism() {
+        String value = properties.getProperty(KEY_CRAWL_PARALLELISM);
+        if (value == null || value.isBlank())
+            return Runtime.getRuntime().availableProcessors();
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    public void setCrawlParallelism(int value) {
+        properties.setProperty(KEY_CRAWL_PARALLELISM, String.valueOf(value));
+        saveConfig();
+    }
+
+    public boolean isParseIndexEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(KEY_PARSE_INDEX_ENABLED, "true"));
+    }
+
+    public File getParseIndexFile() {
+        return new File(properties.getProperty(KEY_PARSE_INDEX_FILE,
+                new File(CONFIG_DIR, "parse-index.bin").getPath()));
+    }
+
+    /**
+     * If enabled, the parse index also compares a content hash (slower, but
+     * safe against tools that preserve size and timestamp).
+     */
+    public boolean isParseIndexHashEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(KEY_PARSE_INDEX_HASH, "false"));
+    }
+
+    public boolean isWatchEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(KEY_WATCH_ENABLED, "true"));
+    }
+
+    /**
+     * Forces the polling fallback instead of the WatchService (e.g. for
+     * network shares that do not deliver file events).
+     */
+    public boolean isWatchPolling() {
+        return Boolean.parseBoolean(properties.getProperty(KEY_WATCH_POLLING, "false"));
+    }
+
+    public long getWatchPollIntervalMs() {
+        try {
+            return Long.parseLong(properties.getProperty(KEY_WATCH_POLL_INTERVAL, "1000").trim());
+        } catch (NumberFormatException e) {
+            return 1000;
+        }
+    }
+
+    /**
+     * Size limit of the in-memory cache of parsed reports (text size in MB).
+     * 0 disables the cache.
+     */
+    public long getAnalysisCacheBytes() {
+        try {
+            long mb = Long.parseLong(properties.getProperty(KEY_ANALYSIS_CACHE_MB, "32").trim());
+            return Math.max(0, mb) * 1024 * 1024;
+        } catch (NumberFormatException e) {
+            return 32L * 1024 * 1024;
+        }
+    }
+
+    /**
+     * Number of chars at the start of a report that are searched for the
+     * date before the whole report is scanned. 0 = always scan everything.
+     */
+    public int getDateWindowChars() {
+        try {
+            return Math.max(0, Integer.parseInt(properties.getProperty(KEY_DATE_WINDOW, "8192").trim()));
+        } catch (NumberFormatException e) {
+            return 8192;
+        }
+    }
+
+    public boolean isHistoryStoreEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(KEY_HISTORY_STORE_ENABLED, "true"));
+    }
+
+    /**
+     * Folder of the per-asset history files.
+     */
+    public File getHistoryStoreDir() {
+        return new File(properties.getProperty(KEY_HISTORY_STORE_DIR, new File(CONFIG_DIR, "history").getPath()));
+    }
+
+    /**
+     * Port of the local signal endpoint in daemon mode (localhost only).
+     */
+    public int getDaemonPort() {
+        try {
+            return Integer.parseInt(properties.getProperty(KEY_DAEMON_PORT, "8765").trim());
+        } catch (NumberFormatException e) {
+            return 8765;
+        }
+    }
 }
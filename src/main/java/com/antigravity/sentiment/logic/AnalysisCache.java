@@ -0,0 +1,119 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.FullAnalysisData;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Bounded in-memory cache of parsed reports, shared by the crawl, the
+ * history window and the detail window so a file is parsed only once.
+ *
+ * Key: absolute path, validated against size + lastModified (a changed file
+ * counts as a miss). Least recently used entries are evicted once the total
+ * weight exceeds the limit; the weight of an entry is the length of the
+ * parsed text, which is roughly what the parsed Strings occupy.
+ */
+public class AnalysisCache {
+
+    private static final class Entry {
+        final long size;
+        final long lastModified;
+        final long weight;
+        final FullAnalysisData data;
+
+        Entry(long size, long lastModified, long weight, FullAnalysisData data) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.weight = weight;
+            this.data = data;
+        }
+    }
+
+    private final long maxWeight;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long weight;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxWeight upper bound for the summed text length of all entries
+     */
+    public AnalysisCache(long maxWeight) {
+        this.maxWeight = Math.max(0, maxWeight);
+    }
+
+    /**
+     * Returns the cached analysis or null if the file is not cached or changed
+     * since. The returned object is shared and must not be modified.
+     */
+    public synchronized FullAnalysisData get(String path, long size, long lastModified) {
+        Entry entry = entries.get(path);
+        if (entry == null || entry.size != size || entry.lastModified != lastModified) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.data;
+    }
+
+    /**
+     * @param weight length of the parsed text; entries larger than the whole
+     *               cache are not stored
+     */
+    public synchronized void put(String path, long size, long lastModified, long weight, FullAnalysisData data) {
+        Entry old = entries.remove(path);
+        if (old != null)
+            this.weight -= old.weight;
+        if (weight > maxWeight)
+            return;
+
+        entries.put(path, new Entry(size, lastModified, weight, data));
+        this.weight += weight;
+
+        Iterator<Entry> it = entries.values().iterator();
+        while (this.weight > maxWeight && it.hasNext()) {
+            this.weight -= it.next().weight;
+            it.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    @Override
+    public synchronized String toString() {
+        long requests = hits + misses;
+        return String.format("%d entries, %d / %d KB, hits %d (%.1f%%), misses %d, evictions %d",
+                entries.size(), weight / 1024, maxWeight / 1024, hits,
+                requests == 0 ? 0.0 : hits * 100.0 / requests, misses, evictions);
+    }
+}
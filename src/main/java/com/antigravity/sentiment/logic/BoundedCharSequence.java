@@ -0,0 +1,72 @@
+package com.antigravity.sentiment.logic;
+
+/**
+ * Regex input with a budget: every {@link #charAt(int)} counts as one step,
+ * and once the steps or the time are used up the next access throws
+ * {@link BudgetExceededException}. java.util.regex has no timeout of its
+ * own, but every backtracking step reads the input, so this stops a
+ * runaway match (e.g. a lazy ".*?" in a huge line without the expected
+ * delimiter) from blocking the crawl.
+ *
+ * One instance per match attempt (or per find loop), not thread-safe.
+ */
+final class BoundedCharSequence implements CharSequence {
+
+    /** Thrown from charAt when the budget is used up; the match is abandoned. */
+    static final class BudgetExceededException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        BudgetExceededException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    // The clock is only read every CLOCK_INTERVAL steps
+    private static final int CLOCK_INTERVAL = 4096;
+
+    private final CharSequence base;
+    private final long maxSteps;
+    private final long deadline;
+    private long steps;
+    private int untilClock = CLOCK_INTERVAL;
+
+    /**
+     * @param maxSteps     number of charAt calls allowed
+     * @param timeoutNanos time allowed from now on
+     */
+    BoundedCharSequence(CharSequence base, long maxSteps, long timeoutNanos) {
+        this.base = base;
+        this.maxSteps = maxSteps;
+        this.deadline = System.nanoTime() + timeoutNanos;
+    }
+
+    @Override
+    public int length() {
+        return base.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (++steps > maxSteps)
+            throw new BudgetExceededException("more than " + maxSteps + " steps");
+        if (--untilClock == 0) {
+            untilClock = CLOCK_INTERVAL;
+            if (System.nanoTime() - deadline > 0)
+                throw new BudgetExceededException("timeout after " + steps + " steps");
+        }
+        return base.charAt(index);
+    }
+
+    /**
+     * Unbounded: only used for the groups of a finished match.
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return base.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return base.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.antigravity.sentiment.logic;
+
+/**
+ * Zero-copy window [start, end) over another CharSequence.
+ * Regex matching works directly on the view; only {@link #toString()} copies.
+ */
+final class CharView implements CharSequence {
+
+    static final CharView EMPTY = new CharView("", 0, 0);
+
+    private final CharSequence base;
+    private final int start;
+    private final int end;
+
+    CharView(CharSequence base, int start, int end) {
+        this.base = base;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return base.charAt(start + index);
+    }
+
+    @Override
+    public CharView subSequence(int from, int to) {
+        if (from < 0 || to > length() || from > to)
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to + ", length=" + length());
+        return new CharView(base, start + from, start + to);
+    }
+
+    /**
+     * Same semantics as {@link String#trim()}, without copying.
+     */
+    CharView trim() {
+        int s = start;
+        int e = end;
+        while (s < e && base.charAt(s) <= ' ')
+            s++;
+        while (e > s && base.charAt(e - 1) <= ' ')
+            e--;
+        return (s == start && e == end) ? this : new CharView(base, s, e);
+    }
+
+    @Override
+    public String toString() {
+        if (base instanceof String)
+            return ((String) base).substring(start, end);
+        return base.subSequence(start, end).toString();
+    }
+}
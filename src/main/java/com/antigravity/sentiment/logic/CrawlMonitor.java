@@ -0,0 +1,39 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.AssetSnapshot;
+
+/**
+ * Progress and cancellation hook for {@link SentimentCrawler#crawl(String, CrawlMonitor)}.
+ * Called from the crawl threads, implementations must hand results over to
+ * the UI thread themselves.
+ */
+public interface CrawlMonitor {
+
+    CrawlMonitor NONE = new CrawlMonitor() {
+        @Override
+        public void folderDone(AssetSnapshot snapshot, int foldersDone, int foldersTotal, int filesDone) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * Called once per asset folder, in discovery order (also when crawling in
+     * parallel).
+     *
+     * @param snapshot     result of the folder, null if it had no readable report
+     * @param foldersDone  asset folders finished so far
+     * @param foldersTotal asset folders found below the root
+     * @param filesDone    report files in the finished folders
+     */
+    void folderDone(AssetSnapshot snapshot, int foldersDone, int foldersTotal, int filesDone);
+
+    /**
+     * Checked before each asset folder. A cancelled crawl returns the
+     * folders finished so far.
+     */
+    boolean isCancelled();
+}
@@ -1,8 +1,14 @@
 package com.antigravity.sentiment.logic;
 
 import com.antigravity.sentiment.model.FullAnalysisData;
+import com.antigravity.sentiment.model.ReportValues;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -12,87 +18,156 @@ import java.util.regex.Pattern;
  */
 public class FullAnalysisParser {
 
-    // Regex for FXSSI (Old & New)
-    private static final Pattern FXSSI_RATIO_OLD = Pattern
-            .compile("Ratio \\(Long/Short\\):\\s*(\\d+)%\\s*/\\s*(\\d+)%");
-    private static final Pattern FXSSI_LONG_NEW = Pattern.compile("-\\s*Long Position:\\s*(\\d+)%");
-    private static final Pattern FXSSI_SHORT_NEW = Pattern.compile("-\\s*Short Position:\\s*(\\d+)%");
-
-    // Regex for probabilities in Section 1 (Old & New)
-    private static final Pattern TREND_START_PATTERN = Pattern.compile(
-            "(?i)(?:Wahrscheinlichkeit Trend-Start|Trend-Fortsetzungs-Risiko|Runaway-Trend Risiko).*?:\\s*(\\d+)%");
-    private static final Pattern RANGE_REV_PATTERN = Pattern
-            .compile("(?i)(?:Wahrscheinlichkeit Range/Reversion|Reversion-Wahrscheinlichkeit).*?:\\s*(\\d+)%");
-    private static final Pattern RANGE_STAB_PATTERN = Pattern
-            .compile("(?i)(?:Erwartete Range Stabilitaet|Range-Trading Chance).*?:\\s*(\\d+)%");
-
-    // Regex for basic properties
-    private static final Pattern CSV_SIGNAL_PATTERN = Pattern.compile("CSV_SIGNAL:\\s*(\\w+)");
-    private static final Pattern BIAS_PATTERN = Pattern.compile("(?:Ergebnis|Finaler)\\s*Bias:\\s*(.*?)(\\(|$)");
-    private static final Pattern DATE_PATTERN_ISO = Pattern.compile("Datum:\\s*(\\d{4}-\\d{2}-\\d{2})");
+    // All regexes live in ParserPatterns (precompiled, shared, thread-safe)
+
+    private static final DateTimeFormatter ENGLISH_DATE = DateTimeFormatter.ofPattern("MMMM d, yyyy",
+            Locale.ENGLISH);
+
+    /** Default size of the header searched for the date, see {@link #FullAnalysisParser(int)} */
+    public static final int DEFAULT_DATE_WINDOW = 8 * 1024;
+
+    // Budget of one field's regex, see BoundedCharSequence: charAt calls
+    // per char of the searched text (plus a minimum) and time
+    private static final long STEPS_PER_CHAR = 200;
+    private static final long MIN_STEPS = 1_000_000;
+    private static final long FIELD_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final int dateWindow;
+    private final LongAdder dateFallbacks = new LongAdder();
+    private final LongAdder regexAborts = new LongAdder();
+
+    public FullAnalysisParser() {
+        this(DEFAULT_DATE_WINDOW);
+    }
+
+    /**
+     * @param dateWindow number of chars at the start of a report that are
+     *                   searched for the date first (it is in SECTION_0/1);
+     *                   the whole report is only scanned if there is none.
+     *                   0 = always scan the whole report
+     */
+    public FullAnalysisParser(int dateWindow) {
+        this.dateWindow = Math.max(0, dateWindow);
+    }
+
+    /**
+     * Number of reports whose header had no date, so the whole content was
+     * scanned.
+     */
+    public long getDateFallbackCount() {
+        return dateFallbacks.sum();
+    }
+
+    /**
+     * Number of fields skipped because their regex ran out of budget.
+     */
+    public long getRegexAbortCount() {
+        return regexAborts.sum();
+    }
 
     public FullAnalysisData parseFullAnalysis(String content) {
-        FullAnalysisData data = new FullAnalysisData();
+        FullAnalysisData data = parseFullAnalysis((CharSequence) content);
         data.setRawContent(content);
+        return data;
+    }
+
+    /**
+     * Parses from any text view, e.g. a pooled buffer of {@link ReportReader}.
+     * The raw content is not kept, the result only holds copied Strings, so
+     * the view can be reused afterwards.
+     */
+    public FullAnalysisData parseFullAnalysis(CharSequence content) {
+        return parseFullAnalysis(content, null);
+    }
+
+    /**
+     * @param source file name for the log if a field is skipped, may be null
+     */
+    public FullAnalysisData parseFullAnalysis(CharSequence content, String source) {
+        FullAnalysisData data = new FullAnalysisData();
 
         try {
-            parseSection0(content, data);
-            parseSection1(content, data);
-            parseSection2And3(content, data); // Derivation & Control
-            parseSection4(content, data); // Rationales
+            SectionTokenizer sections = new SectionTokenizer(content);
+            parseSection0(sections.section(0), data, source);
+            parseSection1(content, sections.section(1), data, source);
+            parseSection2And3(sections.section(2), sections.section(3), data, source); // Derivation & Control
+            parseSection4(sections.section(4), data, source); // Rationales
         } catch (Exception e) {
             System.err.println("Error parsing full analysis: " + e.getMessage());
             e.printStackTrace();
         }
+        data.setExplanation(extractExplanation(data, source));
         return data;
     }
 
-    private void parseSection0(String content, FullAnalysisData data) {
-        // Try precise block first, fallback to loose check
-        String section = extractSectionBlock(content, "### SECTION_0", "### SECTION_1");
-        // Fallback for ## SECTION_0 (if user used double hash instead of triple)
-        if (section.isEmpty())
-            section = extractSectionBlock(content, "## SECTION_0", "## SECTION_1");
+    /**
+     * Lightweight parse for signal lookups of older reports: only date,
+     * probabilities, panic status and CSV_SIGNAL are filled. FXSSI and
+     * indicators (SECTION_0), the derivation text and the rationales
+     * (SECTION_4) are skipped.
+     *
+     * @param content  the report, or only its head if {@code complete} is false
+     * @param complete false if content was cut off after the first bytes
+     * @param source   file name for the log if a field is skipped, may be null
+     * @return null if the head is too short to be sure the result matches a
+     *         full parse (SECTION_4 or the date not reached yet)
+     */
+    public FullAnalysisData parseHeader(CharSequence content, boolean complete, String source) {
+        FullAnalysisData data = new FullAnalysisData();
 
+        try {
+            SectionTokenizer sections = new SectionTokenizer(content);
+            // Sections 0-3 are only complete once the SECTION_4 header was read
+            if (!complete && !sections.hasSection(SectionTokenizer.SECTION_COUNT - 1))
+                return null;
+
+            parseSection1(content, sections.section(1), data, source);
+            if (!complete && data.getDate().isEmpty())
+                return null;
+            parseSignalFields(sections.section(2), sections.section(3), data, source);
+        } catch (Exception e) {
+            System.err.println("Error parsing report header: " + e.getMessage());
+            return null;
+        }
+        return data;
+    }
+
+    private void parseSection0(CharView section, FullAnalysisData data, String source) {
         if (section.isEmpty())
             return;
 
         // Try Old Format
-        Matcher mOld = FXSSI_RATIO_OLD.matcher(section);
-        if (mOld.find()) {
-            data.setFxssiLong(mOld.group(1) + "%");
-            data.setFxssiShort(mOld.group(2) + "%");
+        Matcher mOld = find(ParserPatterns.FXSSI_RATIO_OLD, section, source);
+        if (mOld != null) {
+            data.setFxssiLongPercent(ReportValues.parsePercent(mOld.group(1)));
+            data.setFxssiShortPercent(ReportValues.parsePercent(mOld.group(2)));
             return;
         }
 
         // Try New Format
-        Matcher mLong = FXSSI_LONG_NEW.matcher(section);
-        Matcher mShort = FXSSI_SHORT_NEW.matcher(section);
+        Matcher mLong = find(ParserPatterns.FXSSI_LONG_NEW, section, source);
+        Matcher mShort = find(ParserPatterns.FXSSI_SHORT_NEW, section, source);
 
-        if (mLong.find())
-            data.setFxssiLong(mLong.group(1) + "%");
-        if (mShort.find())
-            data.setFxssiShort(mShort.group(1) + "%");
+        if (mLong != null)
+            data.setFxssiLongPercent(ReportValues.parsePercent(mLong.group(1)));
+        if (mShort != null)
+            data.setFxssiShortPercent(ReportValues.parsePercent(mShort.group(1)));
 
         // Extract Analyst Consensus
         // Pattern: Starts with "ANALYSTEN-KONSENS" and goes until "KONFLIKT-ANALYSE" or
         // "Technische Überdehnung"
-        Pattern consensusPattern = Pattern.compile(
-                "(?s)(ANALYSTEN-KONSENS.*?)(?=(?:KONFLIKT-ANALYSE|Technische Überdehnung|### SECTION|## SECTION|$))");
-        Matcher cm = consensusPattern.matcher(section);
-        if (cm.find()) {
+        Matcher cm = find(ParserPatterns.CONSENSUS_BLOCK, section, source);
+        if (cm != null) {
             data.setAnalystConsensus(cm.group(1).trim());
 
             // Extract numeric consensus (e.g. "2 von 3")
-            Pattern numPat = Pattern.compile("Konsens:.*?(\\d+\\s+von\\s+\\d+)");
-            Matcher numM = numPat.matcher(cm.group(1));
-            if (numM.find()) {
+            Matcher numM = find(ParserPatterns.CONSENSUS_NUMBERS_DE, cm.group(1), source);
+            if (numM != null) {
                 data.setConsensusNumbers(numM.group(1));
             } else {
                 // Try "1 of 4"
-                Pattern numPatEng = Pattern.compile("Konsens:.*?(\\d+\\s+of\\s+\\d+)");
-                Matcher numMEng = numPatEng.matcher(cm.group(1));
-                if (numMEng.find()) {
+                Matcher numMEng = find(ParserPatterns.CONSENSUS_NUMBERS_EN, cm.group(1), source);
+                if (numMEng != null) {
                     data.setConsensusNumbers(numMEng.group(1));
                 }
             }
@@ -103,28 +178,33 @@ public class FullAnalysisParser {
         // Allow optional "ca." and skip text. Match digits, dots, hyphens, en-dashes.
         // VIX
         // Matches "VIX Index: ca. 14-15" or "VIX Index: 14.5"
-        Matcher vixM = Pattern.compile("VIX Index:.*?(?:ca\\.?\\s*|≈\\s*)?([\\d\\.\\-–]+)").matcher(section);
-        if (vixM.find())
+        Matcher vixM = find(ParserPatterns.VIX, section, source);
+        if (vixM != null) {
             data.setVix(vixM.group(1).trim());
+            data.setVixValue(ReportValues.parseLeadingNumber(data.getVix()));
+        }
 
         // RSI
         // "RSI (14): Investing.com 42.48" -> Skip text until digits
         // Avoid capturing "14" from "RSI (14)"
         // Pattern: RSI, optional (14), optional colon, optional non-digits, then
         // capture digits
-        Matcher rsiM = Pattern.compile("RSI\\s*(?:\\(\\d+\\))?.*?:[^\\d]*([\\d\\.]+)").matcher(section);
-        if (rsiM.find())
+        Matcher rsiM = find(ParserPatterns.RSI, section, source);
+        if (rsiM != null) {
             data.setRsi(rsiM.group(1).trim());
+            data.setRsiValue(ReportValues.parseLeadingNumber(data.getRsi()));
+        }
 
         // ATR
         // Support tilde (~) and approx symbol (≈)
-        Matcher atrVal = Pattern.compile("ATR.*?[:≈~]\\s*([\\d\\.]+)").matcher(section);
-        if (atrVal.find()) {
+        Matcher atrVal = find(ParserPatterns.ATR_VALUE, section, source);
+        if (atrVal != null) {
             data.setAtr(atrVal.group(1).trim());
+            data.setAtrValue(ReportValues.parseLeadingNumber(data.getAtr()));
         } else {
             // Fallback for textual references "niedrig", "low"
-            Matcher atrText = Pattern.compile("ATR.*?:.*?\"?([A-Za-z\\s]+)\"?").matcher(section);
-            if (atrText.find()) {
+            Matcher atrText = find(ParserPatterns.ATR_TEXT, section, source);
+            if (atrText != null) {
                 String txt = atrText.group(1).trim();
                 // Avoid capturing long sentences
                 if (txt.length() > 2 && txt.length() < 25) {
@@ -134,40 +214,17 @@ public class FullAnalysisParser {
         }
     }
 
-    private void parseSection1(String content, FullAnalysisData data) {
-        String section = extractSectionBlock(content, "### SECTION_1", "### SECTION_2");
-        if (section.isEmpty())
-            section = extractSectionBlock(content, "## SECTION_1", "## SECTION_2"); // Fallback
-
+    private void parseSection1(CharSequence content, CharView section, FullAnalysisData data, String source) {
         if (section.isEmpty())
             return;
 
         // Date - Also check definition in Section 0 if missing here
-        Matcher dm = DATE_PATTERN_ISO.matcher(content); // Check full content for date to be safe
-        if (dm.find()) {
-            data.setDate(dm.group(1));
-        } else {
-            // Fallback for English textual format: January 9, 2026
-            Pattern dateText = Pattern.compile("Datum:\\s*([A-Za-z]+\\s+\\d{1,2},\\s+\\d{4})");
-            Matcher dmText = dateText.matcher(content);
-            if (dmText.find()) {
-                String rawDate = dmText.group(1);
-                try {
-                    // Parse "January 9, 2026" to "2026-01-09"
-                    java.time.format.DateTimeFormatter inputFmt = java.time.format.DateTimeFormatter
-                            .ofPattern("MMMM d, yyyy", java.util.Locale.ENGLISH);
-                    java.time.LocalDate ld = java.time.LocalDate.parse(rawDate, inputFmt);
-                    data.setDate(ld.toString()); // ISO result
-                } catch (Exception e) {
-                    data.setDate(rawDate); // Fallback to raw string
-                }
-            }
-        }
+        findDate(content, data, source);
 
         // Probabilities
-        Matcher rm = RANGE_REV_PATTERN.matcher(section);
-        Matcher tm = TREND_START_PATTERN.matcher(section);
-        Matcher rs = RANGE_STAB_PATTERN.matcher(section);
+        Matcher rm = find(ParserPatterns.RANGE_REVERSION, section, source);
+        Matcher tm = find(ParserPatterns.TREND_START, section, source);
+        Matcher rs = find(ParserPatterns.RANGE_STABILITY, section, source);
 
         int side = 0;
         int trend = 0;
@@ -175,28 +232,28 @@ public class FullAnalysisParser {
         StringBuilder calculationLog = new StringBuilder("Berechnungsgrundlage:\n");
 
         // Priority for Sideways: Range-Trading Chance > Range Stabilitaet > Reversion
-        if (rs.find()) {
+        if (rs != null) {
             side = parsePercentage(rs.group(1));
             calculationLog.append("- Gefunden: 'Range-Trading Chance/Stabilität' (").append(side)
                     .append("%) -> Interpretiert als SEITWÄRTS.\n");
-        } else if (rm.find()) {
+        } else if (rm != null) {
             side = parsePercentage(rm.group(1));
             calculationLog.append("- Gefunden: 'Reversion/Range' (").append(side)
                     .append("%) -> Interpretiert als SEITWÄRTS.\n");
         }
 
-        if (tm.find()) {
+        if (tm != null) {
             trend = parsePercentage(tm.group(1));
             calculationLog.append("- Gefunden: 'Trend/Runaway Risiko' (").append(trend)
                     .append("%) -> Aufgeteilt auf STEIGT/FÄLLT.\n");
         }
 
-        data.setSidewaysProbability(side + "%");
+        data.setSidewaysPercent(side);
 
         if (trend > 0) {
             int split = trend / 2;
-            data.setUpProbability(split + "%");
-            data.setDownProbability(split + "%");
+            data.setUpPercent(split);
+            data.setDownPercent(split);
             calculationLog.append("  -> ").append(split).append("% Steigt, ").append(split)
                     .append("% Fällt (Split).\n");
         } else {
@@ -204,8 +261,8 @@ public class FullAnalysisParser {
             int remainder = 100 - side;
             if (remainder > 0) {
                 int split = remainder / 2;
-                data.setUpProbability(split + "%");
-                data.setDownProbability(split + "%");
+                data.setUpPercent(split);
+                data.setDownPercent(split);
                 calculationLog.append("- Rest (").append(remainder)
                         .append("%) -> Aufgeteilt auf STEIGT/FÄLLT (Split).\n");
                 calculationLog.append("  -> ").append(split).append("% Steigt, ").append(split).append("% Fällt.\n");
@@ -215,90 +272,187 @@ public class FullAnalysisParser {
         data.setProbabilityCalculation(calculationLog.toString());
     }
 
-    private void parseSection2And3(String content, FullAnalysisData data) {
-        String sec2 = extractSectionBlock(content, "### SECTION_2", "### SECTION_3");
-        if (sec2.isEmpty())
-            sec2 = extractSectionBlock(content, "## SECTION_2", "## SECTION_3");
-
-        String sec3 = extractSectionBlock(content, "### SECTION_3", "### SECTION_4");
-        if (sec3.isEmpty())
-            sec3 = extractSectionBlock(content, "## SECTION_3", "## SECTION_4");
-
+    private void parseSection2And3(CharView sec2, CharView sec3, FullAnalysisData data, String source) {
         StringBuilder combined = new StringBuilder();
         if (!sec2.isEmpty()) {
             combined.append("HERLEITUNG:\n").append(sec2).append("\n\n");
 
-            Matcher bm = BIAS_PATTERN.matcher(sec2);
-            if (bm.find())
+            Matcher bm = find(ParserPatterns.BIAS, sec2, source);
+            if (bm != null)
                 data.setBias(bm.group(1).trim());
+        }
+
+        if (!sec3.isEmpty())
+            combined.append("STEUERUNG:\n").append(sec3);
+
+        parseSignalFields(sec2, sec3, data, source);
+        data.setDerivationText(combined.toString());
+    }
+
+    /**
+     * Searches the header window first and the whole content only if the
+     * header has no date. An English date in the header therefore wins over
+     * an ISO date further down.
+     */
+    private void findDate(CharSequence content, FullAnalysisData data, String source) {
+        if (dateWindow > 0 && content.length() > dateWindow) {
+            if (findDateIn(new CharView(content, 0, dateWindow), data, source))
+                return;
+            dateFallbacks.increment();
+        }
+        findDateIn(content, data, source);
+    }
 
+    private boolean findDateIn(CharSequence text, FullAnalysisData data, String source) {
+        Matcher dm = find(ParserPatterns.DATE_ISO, text, source);
+        if (dm != null) {
+            data.setDate(dm.group(1));
+            return true;
+        }
+        // Fallback for English textual format: January 9, 2026
+        Matcher dmText = find(ParserPatterns.DATE_ENGLISH, text, source);
+        if (dmText != null) {
+            String rawDate = dmText.group(1);
+            try {
+                // Parse "January 9, 2026" to "2026-01-09"
+                LocalDate ld = LocalDate.parse(rawDate, ENGLISH_DATE);
+                data.setDate(ld.toString()); // ISO result
+            } catch (Exception e) {
+                data.setDate(rawDate); // Fallback to raw string
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void parseSignalFields(CharView sec2, CharView sec3, FullAnalysisData data, String source) {
+        if (!sec2.isEmpty()) {
             // Panic Check
-            Matcher pm = Pattern.compile("(?s)Panic Check:.*?Status:\\s*(.*?)(?=\\n)").matcher(sec2);
-            if (pm.find()) {
+            Matcher pm = find(ParserPatterns.PANIC_STATUS, sec2, source);
+            if (pm != null) {
                 data.setPanicStatus(pm.group(1).trim());
             }
         }
 
         if (!sec3.isEmpty()) {
-            combined.append("STEUERUNG:\n").append(sec3);
-
-            Matcher cm = CSV_SIGNAL_PATTERN.matcher(sec3);
-            if (cm.find())
+            Matcher cm = find(ParserPatterns.CSV_SIGNAL, sec3, source);
+            if (cm != null)
                 data.setCsvSignal(cm.group(1).trim());
         }
-
-        data.setDerivationText(combined.toString());
     }
 
-    private void parseSection4(String content, FullAnalysisData data) {
-        String section = extractSectionBlock(content, "### SECTION_4", "END_OF_FILE");
-        if (section.isEmpty())
-            section = extractSectionBlock(content, "## SECTION_4", "END_OF_FILE");
-
+    private void parseSection4(CharView section, FullAnalysisData data, String source) {
         if (section.isEmpty())
             return;
 
         Map<String, String> rationals = new LinkedHashMap<>();
 
         // Split by "N) Title"
-        Pattern p = Pattern.compile("(?m)^\\d+\\)\\s*(.*?)$");
-        Matcher m = p.matcher(section);
+        // One budget for the whole loop; if it runs out, the last heading
+        // found takes the rest of the section
+        Matcher m = ParserPatterns.RATIONALE_HEADING.matcher(bounded(section));
 
         int lastMatchEnd = -1;
         String lastTitle = null;
 
-        while (m.find()) {
-            if (lastTitle != null) {
-                String body = section.substring(lastMatchEnd, m.start()).trim();
-                rationals.put(lastTitle, body);
+        try {
+            while (m.find()) {
+                if (lastTitle != null) {
+                    String body = section.subSequence(lastMatchEnd, m.start()).trim().toString();
+                    rationals.put(lastTitle, body);
+                }
+                lastTitle = m.group(1).trim();
+                lastMatchEnd = m.end();
             }
-            lastTitle = m.group(1).trim();
-            lastMatchEnd = m.end();
+        } catch (BoundedCharSequence.BudgetExceededException e) {
+            regexAborted(ParserPatterns.RATIONALE_HEADING, source, e);
         }
 
         if (lastTitle != null) {
-            String body = section.substring(lastMatchEnd).trim();
+            String body = section.subSequence(lastMatchEnd, section.length()).trim().toString();
             rationals.put(lastTitle, body);
         }
 
         data.setRationales(rationals);
     }
 
-    private String extractSectionBlock(String content, String startTag, String nextTag) {
-        int start = content.indexOf(startTag);
-        if (start == -1)
-            return "";
-
-        int end = content.indexOf(nextTag, start);
-        if (end == -1)
-            end = content.length();
+    /**
+     * Short explanation for the table: the first 3 sentences of the
+     * "Begründung des CSV_SIGNALS" rationale, else the "Finaler Bias:" line of
+     * the derivation. Computed here so the long texts need not be kept.
+     */
+    private String extractExplanation(FullAnalysisData data, String source) {
+        String explanation = "Keine Begründung verfügbar";
+        Map<String, String> rationales = data.getRationales();
+        if (rationales != null) {
+            for (Map.Entry<String, String> entry : rationales.entrySet()) {
+                if (entry.getKey().toLowerCase().contains("begründung")
+                        && entry.getKey().toLowerCase().contains("csv_signal")) {
+                    String text = entry.getValue();
+                    // Split by sentence delimiters
+                    String[] sentences;
+                    try {
+                        sentences = ParserPatterns.SENTENCE_END.split(bounded(text));
+                    } catch (BoundedCharSequence.BudgetExceededException e) {
+                        regexAborted(ParserPatterns.SENTENCE_END, source, e);
+                        break;
+                    }
+                    StringBuilder sb = new StringBuilder();
+                    int count = 0;
+                    for (String sentence : sentences) {
+                        if (count >= 3)
+                            break;
+                        sb.append(sentence).append(" ");
+                        count++;
+                    }
+                    explanation = sb.toString().trim();
+                    break;
+                }
+            }
+        }
+        // Fallback: use Derivation text summary if no specific section found
+        if ("Keine Begründung verfügbar".equals(explanation) && data.getDerivationText() != null) {
+            // Try to pick bias
+            String derivation = data.getDerivationText();
+            if (derivation.contains("Finaler Bias:")) {
+                int start = derivation.indexOf("Finaler Bias:");
+                int end = derivation.indexOf("\n", start);
+                if (end == -1)
+                    end = derivation.length();
+                explanation = derivation.substring(start, end).trim();
+            }
+        }
+        return explanation;
+    }
 
-        int headerEnd = content.indexOf('\n', start);
-        if (headerEnd != -1 && headerEnd < end) {
-            return content.substring(headerEnd + 1, end).trim();
+    /**
+     * find() with a step and time budget.
+     *
+     * @return the matcher on the first match, or null if there is none or the
+     *         budget ran out (then the field is skipped and the rest of the
+     *         report is parsed as usual)
+     */
+    private Matcher find(Pattern pattern, CharSequence text, String source) {
+        Matcher m = pattern.matcher(bounded(text));
+        try {
+            return m.find() ? m : null;
+        } catch (BoundedCharSequence.BudgetExceededException e) {
+            regexAborted(pattern, source, e);
+            return null;
         }
+    }
+
+    private static BoundedCharSequence bounded(CharSequence text) {
+        return new BoundedCharSequence(text, MIN_STEPS + STEPS_PER_CHAR * text.length(), FIELD_TIMEOUT_NANOS);
+    }
 
-        return content.substring(start + startTag.length(), end).trim();
+    private void regexAborted(Pattern pattern, String source, RuntimeException e) {
+        regexAborts.increment();
+        String regex = pattern.pattern();
+        if (regex.length() > 60)
+            regex = regex.substring(0, 60) + "...";
+        System.err.println("Regex aborted in " + (source != null ? source : "<unknown>") + " (" + e.getMessage()
+                + "), field skipped: " + regex);
     }
 
     private int parsePercentage(String s) {
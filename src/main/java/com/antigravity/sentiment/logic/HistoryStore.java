@@ -0,0 +1,392 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.FullAnalysisData;
+import com.antigravity.sentiment.model.HistoryEntry;
+import com.antigravity.sentiment.model.ReportDates;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only history of the parsed reports, one file per asset folder, so
+ * the history window needs no text parsing for reports seen before.
+ *
+ * Each report is one fixed-size binary record (file name hash, size,
+ * lastModified, date as epoch day, up/side/down, signal, FXSSI, VIX, RSI,
+ * ATR). Records are only appended; a changed report gets a new record and
+ * the newest one wins. Reads go through a memory-mapped view of the file.
+ * Superseded records are dropped when the file is opened and more than half
+ * of it is stale. Writes of all processes are serialized by a lock file in
+ * the store directory.
+ *
+ * Reports whose date is not an ISO date are not stored, they are parsed
+ * every time as before.
+ */
+public class HistoryStore {
+
+    private static final int MAGIC = 0x534d4853; // "SMHS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_BYTES = 64;
+    private static final int MIN_STALE_FOR_COMPACTION = 64;
+    private static final String LOCK_FILE = "history.lock";
+
+    // Record layout
+    private static final int NAME_HASH = 0;
+    private static final int SIZE = 8;
+    private static final int LAST_MODIFIED = 16;
+    private static final int EPOCH_DAY = 24;
+    private static final int UP = 28;
+    private static final int SIDE = 30;
+    private static final int DOWN = 32;
+    private static final int SIGNAL = 34;
+    private static final int FXSSI_LONG = 36;
+    private static final int FXSSI_SHORT = 38;
+    private static final int VIX = 40;
+    private static final int RSI = 48;
+    private static final int ATR = 56;
+
+    // Results of SentimentCrawler.determineSignal
+    private static final String[] SIGNALS = { "STEIGT", "FAELLT", "SEITWAERTS", "PANIC", "NEUTRAL" };
+
+    private final File dir;
+    // asset folder path -> its store file, opened on first use
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    public HistoryStore(File dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Stored history entry of the report, null if it is not stored or
+     * changed since.
+     */
+    HistoryEntry get(File assetDir, ReportFile file) {
+        try {
+            return segment(assetDir).get(file);
+        } catch (IOException e) {
+            System.err.println("Could not read history store of " + assetDir + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Appends the report unless it is already stored with the same size and
+     * lastModified.
+     */
+    void append(File assetDir, ReportFile file, FullAnalysisData data, String signal) {
+        Batch batch = new Batch();
+        batch.add(file, data, signal);
+        appendAll(assetDir, batch);
+    }
+
+    /**
+     * Appends all reports of the batch that are not stored yet, with one
+     * write.
+     */
+    void appendAll(File assetDir, Batch batch) {
+        if (batch.records.isEmpty())
+            return;
+        try {
+            segment(assetDir).appendAll(batch.records);
+        } catch (IOException e) {
+            System.err.println("Could not write history store of " + assetDir + ": " + e.getMessage());
+        }
+    }
+
+    /** Parsed reports of one asset folder, collected for {@link #appendAll} */
+    static final class Batch {
+        private final List<ByteBuffer> records = new ArrayList<>();
+
+        void add(ReportFile file, FullAnalysisData data, String signal) {
+            ByteBuffer record = record(file, data, signal);
+            if (record != null)
+                records.add(record);
+        }
+    }
+
+    private Segment segment(File assetDir) throws IOException {
+        try {
+            return segments.computeIfAbsent(assetDir.getAbsolutePath(), key -> {
+                try {
+                    return new Segment(fileFor(key, assetDir.getName()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Path fileFor(String assetPath, String assetName) {
+        String name = assetName.replaceAll("[^A-Za-z0-9_.-]", "_");
+        return dir.toPath().resolve(name + "-" + Long.toHexString(hash(assetPath)) + ".hist");
+    }
+
+    /**
+     * The record for a parsed report, null if it cannot be stored without
+     * loss (no ISO date, unknown signal).
+     */
+    private static ByteBuffer record(ReportFile file, FullAnalysisData data, String signal) {
+        LocalDate date = ReportDates.parseDate(data.getDate());
+        if (date == LocalDate.MIN || !date.toString().equals(data.getDate()))
+            return null;
+        int signalCode = -1;
+        for (int i = 0; i < SIGNALS.length; i++) {
+            if (SIGNALS[i].equals(signal))
+                signalCode = i;
+        }
+        if (signalCode < 0 || !fitsShort(data.getUpPercent(), data.getSidewaysPercent(), data.getDownPercent(),
+                data.getFxssiLongPercent(), data.getFxssiShortPercent()))
+            return null;
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        record.putLong(NAME_HASH, hash(file.file.getName()));
+        record.putLong(SIZE, file.size);
+        record.putLong(LAST_MODIFIED, file.lastModified);
+        record.putInt(EPOCH_DAY, (int) date.toEpochDay());
+        record.putShort(UP, (short) data.getUpPercent());
+        record.putShort(SIDE, (short) data.getSidewaysPercent());
+        record.putShort(DOWN, (short) data.getDownPercent());
+        record.put(SIGNAL, (byte) signalCode);
+        record.putShort(FXSSI_LONG, (short) data.getFxssiLongPercent());
+        record.putShort(FXSSI_SHORT, (short) data.getFxssiShortPercent());
+        record.putDouble(VIX, data.getVixValue());
+        record.putDouble(RSI, data.getRsiValue());
+        record.putDouble(ATR, data.getAtrValue());
+        return record;
+    }
+
+    private static boolean fitsShort(int... values) {
+        for (int value : values) {
+            if (value != (short) value)
+                return false;
+        }
+        return true;
+    }
+
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * Runs the action while holding the store lock, which serializes the
+     * writes of all processes sharing the directory (GUI, CLI, daemon). A
+     * separate lock file, so a compaction can replace a store file.
+     */
+    private static void locked(Path lockFile, IoAction action) throws IOException {
+        synchronized (HistoryStore.class) { // FileLock is per process, not per thread
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    action.run();
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Store file of one asset folder. The mapping covers the file as it was
+     * when last mapped; records appended since (also by another process) are
+     * picked up by remapping when a lookup misses and the file grew.
+     */
+    private static final class Segment {
+        private final Path file;
+        private final Path lockFile;
+        private MappedByteBuffer map;
+        private int mappedRecords;
+        // name hash -> number of the newest record for that report
+        private final Map<Long, Integer> latest = new HashMap<>();
+
+        Segment(Path file) throws IOException {
+            this.file = file;
+            this.lockFile = file.resolveSibling(LOCK_FILE);
+            open();
+        }
+
+        synchronized HistoryEntry get(ReportFile file) throws IOException {
+            long nameHash = hash(file.file.getName());
+            Integer record = latest.get(nameHash);
+            if (record == null || !matches(record, nameHash, file)) {
+                if (!remap())
+                    return null;
+                record = latest.get(nameHash);
+                if (record == null || !matches(record, nameHash, file))
+                    return null;
+            }
+
+            int base = HEADER_BYTES + record * RECORD_BYTES;
+            return new HistoryEntry(
+                    LocalDate.ofEpochDay(map.getInt(base + EPOCH_DAY)).toString(),
+                    map.getShort(base + UP),
+                    map.getShort(base + SIDE),
+                    map.getShort(base + DOWN),
+                    SIGNALS[map.get(base + SIGNAL)],
+                    file.path(),
+                    map.getShort(base + FXSSI_LONG),
+                    map.getShort(base + FXSSI_SHORT),
+                    map.getDouble(base + VIX),
+                    map.getDouble(base + RSI),
+                    map.getDouble(base + ATR));
+        }
+
+        /**
+         * Appends the records that are not stored yet with one write, then
+         * maps the file once.
+         */
+        synchronized void appendAll(List<ByteBuffer> records) throws IOException {
+            ByteBuffer out = ByteBuffer.allocate(records.size() * RECORD_BYTES);
+            for (ByteBuffer record : records) {
+                if (!isStored(record))
+                    out.put(record.array());
+            }
+            if (out.position() == 0)
+                return;
+            out.flip();
+
+            locked(lockFile, () -> {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    // Behind the last complete record, over a torn one (crash while appending)
+                    long position = HEADER_BYTES + recordsIn(channel.size()) * (long) RECORD_BYTES;
+                    while (out.hasRemaining()) {
+                        position += channel.write(out, position);
+                    }
+                }
+            });
+            remap();
+        }
+
+        private boolean isStored(ByteBuffer record) {
+            Integer existing = latest.get(record.getLong(NAME_HASH));
+            if (existing == null || existing >= mappedRecords)
+                return false;
+            int base = HEADER_BYTES + existing * RECORD_BYTES;
+            return map.getLong(base + SIZE) == record.getLong(SIZE)
+                    && map.getLong(base + LAST_MODIFIED) == record.getLong(LAST_MODIFIED);
+        }
+
+        private boolean matches(int record, long nameHash, ReportFile file) {
+            if (record >= mappedRecords)
+                return false;
+            int base = HEADER_BYTES + record * RECORD_BYTES;
+            return map.getLong(base + NAME_HASH) == nameHash && map.getLong(base + SIZE) == file.size
+                    && map.getLong(base + LAST_MODIFIED) == file.lastModified
+                    && map.get(base + SIGNAL) >= 0 && map.get(base + SIGNAL) < SIGNALS.length;
+        }
+
+        /**
+         * Creates the file and compacts it if most records are superseded.
+         * Nothing of the file is mapped yet at this point, so it can still be
+         * replaced. A torn last record is left alone, it may be an append of
+         * another process in progress; readers ignore it.
+         */
+        private void open() throws IOException {
+            Files.createDirectories(file.getParent());
+            locked(lockFile, () -> {
+                byte[] records;
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+                    while (content.hasRemaining() && channel.read(content) >= 0) {
+                        // read the whole file
+                    }
+                    records = content.array();
+                    if (records.length < HEADER_BYTES || content.getInt(0) != MAGIC || content.getInt(4) != VERSION) {
+                        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION);
+                        header.flip();
+                        channel.truncate(0);
+                        channel.write(header, 0);
+                        return;
+                    }
+                }
+
+                int count = recordsIn(records.length);
+                Map<Long, Integer> newest = new HashMap<>();
+                for (int i = 0; i < count; i++) {
+                    newest.put(ByteBuffer.wrap(records, HEADER_BYTES + i * RECORD_BYTES, 8).getLong(), i);
+                }
+                int stale = count - newest.size();
+                if (stale >= MIN_STALE_FOR_COMPACTION && stale > newest.size())
+                    compact(records, count, newest);
+            });
+            remap();
+        }
+
+        private void compact(byte[] records, int count, Map<Long, Integer> newest) throws IOException {
+            ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + newest.size() * RECORD_BYTES);
+            out.put(records, 0, HEADER_BYTES);
+            for (int i = 0; i < count; i++) {
+                long nameHash = ByteBuffer.wrap(records, HEADER_BYTES + i * RECORD_BYTES, 8).getLong();
+                if (newest.get(nameHash) == i)
+                    out.put(records, HEADER_BYTES + i * RECORD_BYTES, RECORD_BYTES);
+            }
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                if (Files.getFileStore(tmp).supportsFileAttributeView(PosixFileAttributeView.class))
+                    Files.setPosixFilePermissions(tmp, Files.getPosixFilePermissions(file)); // temp files are owner-only
+                Files.write(tmp, out.array());
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                // Keep the uncompacted file, it is still valid (e.g. mapped by another process on Windows)
+                System.err.println("Could not compact history store " + file + ": " + e.getMessage());
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+
+        /**
+         * Maps the file again if its number of complete records changed and
+         * indexes the new records. Only a size check if not.
+         *
+         * @return false if nothing changed
+         */
+        private boolean remap() throws IOException {
+            if (map != null && recordsIn(Files.size(file)) == mappedRecords)
+                return false;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                int records = recordsIn(channel.size());
+                map = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES + (long) records * RECORD_BYTES);
+                int from = records < mappedRecords ? 0 : mappedRecords; // shrunk: compacted by another process
+                if (from == 0)
+                    latest.clear();
+                for (int i = from; i < records; i++) {
+                    latest.put(map.getLong(HEADER_BYTES + i * RECORD_BYTES + NAME_HASH), i);
+                }
+                mappedRecords = records;
+                return true;
+            }
+        }
+
+        private static int recordsIn(long fileSize) {
+            return (int) Math.max(0, (fileSize - HEADER_BYTES) / RECORD_BYTES);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.antigravity.sentiment.logic;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick automaton that finds all occurrences of a fixed set of
+ * keywords in one pass over the text, instead of one regex per keyword.
+ *
+ * Matching is case-insensitive for ASCII letters only, like a Java regex
+ * with {@code (?i)} but without UNICODE_CASE ("ä" only matches "ä").
+ * Immutable after construction and thread-safe.
+ */
+final class KeywordMatcher {
+
+    interface Listener {
+        /**
+         * Called for every occurrence, in order of the end position.
+         *
+         * @param keyword index of the keyword in the constructor arguments
+         * @param start   start index of the occurrence in the text
+         */
+        void found(int keyword, int start);
+    }
+
+    private final int[] lengths;
+    private final int alphabetSize;
+    private final int[] asciiColumn = new int[256]; // char -> column, -1 = not in any keyword
+    private final Map<Character, Integer> otherColumns = new HashMap<>();
+    private final int[] transitions; // state * alphabetSize + column -> state
+    private final int[][] outputs; // state -> keywords ending there
+
+    KeywordMatcher(String... keywords) {
+        lengths = new int[keywords.length];
+        Arrays.fill(asciiColumn, -1);
+
+        int columns = 0;
+        for (String keyword : keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = lower(keyword.charAt(i));
+                if (column(c) < 0) {
+                    if (c < asciiColumn.length)
+                        asciiColumn[c] = columns++;
+                    else
+                        otherColumns.put(c, columns++);
+                }
+            }
+        }
+        alphabetSize = Math.max(1, columns);
+
+        // Trie
+        List<int[]> gotoRows = new ArrayList<>();
+        List<List<Integer>> out = new ArrayList<>();
+        gotoRows.add(newRow());
+        out.add(new ArrayList<>());
+        for (int k = 0; k < keywords.length; k++) {
+            String keyword = keywords[k];
+            if (keyword.isEmpty())
+                throw new IllegalArgumentException("Empty keyword");
+            lengths[k] = keyword.length();
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int col = column(lower(keyword.charAt(i)));
+                if (gotoRows.get(state)[col] < 0) {
+                    gotoRows.get(state)[col] = gotoRows.size();
+                    gotoRows.add(newRow());
+                    out.add(new ArrayList<>());
+                }
+                state = gotoRows.get(state)[col];
+            }
+            out.get(state).add(k);
+        }
+
+        // Failure links (breadth first) folded into a complete transition table
+        int states = gotoRows.size();
+        transitions = new int[states * alphabetSize];
+        int[] fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int col = 0; col < alphabetSize; col++) {
+            int next = gotoRows.get(0)[col];
+            if (next < 0) {
+                transitions[col] = 0;
+            } else {
+                transitions[col] = next;
+                fail[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            out.get(state).addAll(out.get(fail[state]));
+            for (int col = 0; col < alphabetSize; col++) {
+                int next = gotoRows.get(state)[col];
+                if (next < 0) {
+                    transitions[state * alphabetSize + col] = transitions[fail[state] * alphabetSize + col];
+                } else {
+                    transitions[state * alphabetSize + col] = next;
+                    fail[next] = transitions[fail[state] * alphabetSize + col];
+                    queue.add(next);
+                }
+            }
+        }
+
+        outputs = new int[states][];
+        for (int s = 0; s < states; s++) {
+            outputs[s] = out.get(s).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Reports every keyword occurrence in text to the listener.
+     */
+    void scan(CharSequence text, Listener listener) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int col = column(lower(text.charAt(i)));
+            state = col < 0 ? 0 : transitions[state * alphabetSize + col];
+            for (int keyword : outputs[state]) {
+                listener.found(keyword, i + 1 - lengths[keyword]);
+            }
+        }
+    }
+
+    int keywordCount() {
+        return lengths.length;
+    }
+
+    int length(int keyword) {
+        return lengths[keyword];
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private int column(char c) {
+        if (c < asciiColumn.length)
+            return asciiColumn[c];
+        Integer col = otherColumns.get(c);
+        return col == null ? -1 : col;
+    }
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
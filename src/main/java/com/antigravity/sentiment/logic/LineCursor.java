@@ -0,0 +1,85 @@
+package com.antigravity.sentiment.logic;
+
+/**
+ * Iterates over the lines of a text without creating a String per line.
+ * The cursor itself is the CharSequence of the current line, so regex
+ * Matchers can be {@code reset} onto it; only matched groups are copied.
+ *
+ * Lines are separated like {@code split("\\R")}: "\r\n" or any single
+ * line break character. Unlike split, empty lines are returned too.
+ */
+final class LineCursor implements CharSequence {
+
+    private final CharSequence text;
+    private int next; // start of the next line, > length() when done
+    private int start;
+    private int end;
+
+    LineCursor(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Moves to the next line.
+     *
+     * @return false if there is no further line
+     */
+    boolean next() {
+        int n = text.length();
+        if (next > n)
+            return false;
+
+        int i = next;
+        while (i < n && !isLineBreak(text.charAt(i)))
+            i++;
+        start = next;
+        end = i;
+
+        if (i + 1 < n && text.charAt(i) == '\r' && text.charAt(i + 1) == '\n')
+            next = i + 2;
+        else
+            next = i + 1;
+        return true;
+    }
+
+    /**
+     * Same semantics as {@link String#trim()} on the current line.
+     */
+    void trim() {
+        while (start < end && text.charAt(start) <= ' ')
+            start++;
+        while (end > start && text.charAt(end - 1) <= ' ')
+            end--;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return text.charAt(start + index);
+    }
+
+    /**
+     * Stays valid after the cursor moved on.
+     */
+    @Override
+    public CharView subSequence(int from, int to) {
+        if (from < 0 || to > length() || from > to)
+            throw new IndexOutOfBoundsException("from=" + from + ", to=" + to + ", length=" + length());
+        return new CharView(text, start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        return new CharView(text, start, end).toString();
+    }
+
+    // Characters matched by "\R"
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r' || c == '\u000B' || c == '\f' || c == '\u0085' || c == '\u2028'
+                || c == '\u2029';
+    }
+}
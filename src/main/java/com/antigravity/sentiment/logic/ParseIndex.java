@@ -0,0 +1,327 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.FullAnalysisData;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Persistent index of parsed report files.
+ * Key: absolute path + size + lastModified (+ optional content hash).
+ * Value: the summary fields of the parsed {@link FullAnalysisData}. The long
+ * texts (derivation, consensus, rationales, raw content) are neither kept
+ * in memory nor stored; they are re-parsed from the report when asked for.
+ * Stored as a compact binary file so that a restart only re-parses files
+ * that changed since the last run. Entries of reports that are gone are
+ * dropped by {@link #prune}, otherwise the index would only ever grow.
+ */
+public class ParseIndex {
+
+    private static final int MAGIC = 0x53504958; // "SPIX"
+    private static final int VERSION = 3; // 2: typed percentages and indicator values, 3: summary only
+
+    private static final class Entry {
+        final long size;
+        final long lastModified;
+        final long hash;
+        final FullAnalysisData data;
+
+        Entry(long size, long lastModified, long hash, FullAnalysisData data) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+            this.data = data;
+        }
+    }
+
+    private final File indexFile;
+    private final boolean hashContent;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+    private boolean otherRootsChecked; // entries outside the crawled root are checked once per run
+
+    /**
+     * @param indexFile   location of the binary index file
+     * @param hashContent if true, a cache hit additionally requires an identical
+     *                    content hash (the file is read, but not parsed)
+     */
+    public ParseIndex(File indexFile, boolean hashContent) {
+        this.indexFile = indexFile;
+        this.hashContent = hashContent;
+        load();
+    }
+
+    /**
+     * Returns the indexed analysis for the file or null if the file is unknown
+     * or changed since it was indexed. The returned object is shared; its
+     * long texts are loaded from the file on first access.
+     */
+    public FullAnalysisData get(File file) throws IOException {
+        return get(file, file.length(), file.lastModified());
+    }
+
+    /**
+     * Same as {@link #get(File)}, with size and lastModified already known
+     * from the directory scan.
+     */
+    public FullAnalysisData get(File file, long size, long lastModified) throws IOException {
+        Entry entry = entries.get(file.getAbsolutePath());
+        if (entry == null)
+            return null;
+        if (entry.size != size || entry.lastModified != lastModified)
+            return null;
+        if (hashContent && entry.hash != hash(ReportReader.get().read(file)))
+            return null;
+        return entry.data;
+    }
+
+    public void put(File file, CharSequence content, FullAnalysisData data) {
+        put(file, file.length(), file.lastModified(), content, data);
+    }
+
+    /**
+     * @param size         size before the file was read
+     * @param lastModified lastModified before the file was read, so a write
+     *                     during the read leads to a re-parse next time
+     */
+    public void put(File file, long size, long lastModified, CharSequence content, FullAnalysisData data) {
+        long hash = hashContent ? hash(content) : 0L;
+        entries.put(file.getAbsolutePath(), new Entry(size, lastModified, hash, summaryOf(file, data)));
+        dirty = true;
+    }
+
+    /**
+     * Drops the entries of reports that no longer exist (deleted, renamed or
+     * rotated): below root all entries not in reportPaths. Entries outside
+     * root (e.g. of a root no longer used) are dropped if their file is gone;
+     * that costs a stat each, so it is only done on the first call.
+     *
+     * @param reportPaths absolute paths of all reports found below root by a
+     *                    complete scan
+     */
+    public synchronized void prune(File root, Set<String> reportPaths) {
+        String rootPath = root.getAbsolutePath();
+        String prefix = rootPath.endsWith(File.separator) ? rootPath : rootPath + File.separator;
+        boolean checkOthers = !otherRootsChecked;
+        otherRootsChecked = true;
+
+        int before = entries.size();
+        entries.keySet().removeIf(path -> path.startsWith(prefix) ? !reportPaths.contains(path)
+                : checkOthers && !new File(path).exists());
+        if (entries.size() != before)
+            dirty = true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes the index if it changed. Uses a temp file + move so that a crash
+     * never leaves a truncated index behind. The temp file is unique per save,
+     * because the GUI, the CLI and the daemon may save the same index at once
+     * (the last move wins, each result is a complete index).
+     */
+    public synchronized void save() {
+        if (!dirty)
+            return;
+        dirty = false;
+
+        File parent = indexFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists())
+            parent.mkdirs();
+
+        File tmp;
+        try {
+            tmp = Files.createTempFile(parent.toPath(), indexFile.getName(), ".tmp").toFile();
+        } catch (IOException e) {
+            System.err.println("Could not save parse index: " + e.getMessage());
+            dirty = true;
+            return;
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tmp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                Entry entry = e.getValue();
+                writeString(out, e.getKey());
+                out.writeLong(entry.size);
+                out.writeLong(entry.lastModified);
+                out.writeLong(entry.hash);
+                writeData(out, entry.data);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not save parse index: " + e.getMessage());
+            dirty = true;
+            tmp.delete();
+            return;
+        }
+
+        try {
+            Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Could not save parse index: " + e.getMessage());
+            dirty = true;
+            tmp.delete();
+        }
+    }
+
+    private void load() {
+        if (!indexFile.exists())
+            return;
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(indexFile), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                // Unknown or outdated format -> rebuild from scratch
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String path = readString(in);
+                long size = in.readLong();
+                long lastModified = in.readLong();
+                long hash = in.readLong();
+                FullAnalysisData data = readData(in, new File(path));
+                entries.put(path, new Entry(size, lastModified, hash, data));
+            }
+        } catch (IOException e) {
+            System.err.println("Could not load parse index, rebuilding: " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    private static void writeData(DataOutputStream out, FullAnalysisData d) throws IOException {
+        writeString(out, d.getDate());
+        out.writeInt(d.getFxssiLongPercent());
+        out.writeInt(d.getFxssiShortPercent());
+        writeString(out, d.getHighImpactEvents());
+        out.writeInt(d.getUpPercent());
+        out.writeInt(d.getSidewaysPercent());
+        out.writeInt(d.getDownPercent());
+        writeString(out, d.getInstrument());
+        writeString(out, d.getBias());
+        writeString(out, d.getCsvSignal());
+        writeString(out, d.getRiskLevel());
+        writeString(out, d.getVix());
+        out.writeDouble(d.getVixValue());
+        writeString(out, d.getRsi());
+        out.writeDouble(d.getRsiValue());
+        writeString(out, d.getAtr());
+        out.writeDouble(d.getAtrValue());
+        writeString(out, d.getConsensusNumbers());
+        writeString(out, d.getPanicStatus());
+        writeString(out, d.getExplanation());
+    }
+
+    private static FullAnalysisData readData(DataInputStream in, File file) throws IOException {
+        FullAnalysisData d = new FullAnalysisData();
+        d.setDate(readString(in));
+        d.setFxssiLongPercent(in.readInt());
+        d.setFxssiShortPercent(in.readInt());
+        d.setHighImpactEvents(readString(in));
+        d.setUpPercent(in.readInt());
+        d.setSidewaysPercent(in.readInt());
+        d.setDownPercent(in.readInt());
+        d.setInstrument(readString(in));
+        d.setBias(readString(in));
+        d.setCsvSignal(readString(in));
+        d.setRiskLevel(readString(in));
+        d.setVix(readString(in));
+        d.setVixValue(in.readDouble());
+        d.setRsi(readString(in));
+        d.setRsiValue(in.readDouble());
+        d.setAtr(readString(in));
+        d.setAtrValue(in.readDouble());
+        d.setConsensusNumbers(readString(in));
+        d.setPanicStatus(readString(in));
+        d.setExplanation(readString(in));
+        d.releaseDetails(detailLoader(file));
+        return d;
+    }
+
+    private static FullAnalysisData summaryOf(File file, FullAnalysisData s) {
+        FullAnalysisData d = new FullAnalysisData();
+        d.setDate(s.getDate());
+        d.setFxssiLongPercent(s.getFxssiLongPercent());
+        d.setFxssiShortPercent(s.getFxssiShortPercent());
+        d.setHighImpactEvents(s.getHighImpactEvents());
+        d.setUpPercent(s.getUpPercent());
+        d.setSidewaysPercent(s.getSidewaysPercent());
+        d.setDownPercent(s.getDownPercent());
+        d.setInstrument(s.getInstrument());
+        d.setBias(s.getBias());
+        d.setCsvSignal(s.getCsvSignal());
+        d.setRiskLevel(s.getRiskLevel());
+        d.setVix(s.getVix());
+        d.setVixValue(s.getVixValue());
+        d.setRsi(s.getRsi());
+        d.setRsiValue(s.getRsiValue());
+        d.setAtr(s.getAtr());
+        d.setAtrValue(s.getAtrValue());
+        d.setConsensusNumbers(s.getConsensusNumbers());
+        d.setPanicStatus(s.getPanicStatus());
+        d.setExplanation(s.getExplanation());
+        d.releaseDetails(detailLoader(file));
+        return d;
+    }
+
+    /**
+     * Re-parses the report for the long texts. If the file changed since it
+     * was indexed, the texts are those of the current file.
+     */
+    private static Supplier<FullAnalysisData> detailLoader(File file) {
+        return () -> {
+            try {
+                return new FullAnalysisParser().parseFullAnalysis(Files.readString(file.toPath()));
+            } catch (IOException e) {
+                System.err.println("Could not load details of " + file + ": " + e.getMessage());
+                return null;
+            }
+        };
+    }
+
+    // Length-prefixed UTF-8 (writeUTF is limited to 64 KB)
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len < 0)
+            return null;
+        byte[] bytes = new byte[len];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 64-bit FNV-1a over the decoded characters
+    private static long hash(CharSequence content) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < content.length(); i++) {
+            h ^= content.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
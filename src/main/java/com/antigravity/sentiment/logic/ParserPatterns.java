@@ -0,0 +1,131 @@
+package com.antigravity.sentiment.logic;
+
+import java.util.regex.Pattern;
+
+/**
+ * Shared registry of all precompiled regexes (and keyword automatons) used by
+ * {@link FullAnalysisParser} and {@link ReportParser}.
+ * Pattern instances are immutable and thread-safe; each parse only creates
+ * Matchers.
+ */
+final class ParserPatterns {
+
+    private ParserPatterns() {
+    }
+
+    // ---------------------------------------------------------------------
+    // FullAnalysisParser - SECTION_0 (data basis)
+    // ---------------------------------------------------------------------
+
+    /** FXSSI old format: "Ratio (Long/Short): 41% / 59%" */
+    static final Pattern FXSSI_RATIO_OLD = Pattern
+            .compile("Ratio \\(Long/Short\\):\\s*(\\d+)%\\s*/\\s*(\\d+)%");
+    /** FXSSI new format: "- Long Position: 42%" */
+    static final Pattern FXSSI_LONG_NEW = Pattern.compile("-\\s*Long Position:\\s*(\\d+)%");
+    /** FXSSI new format: "- Short Position: 58%" */
+    static final Pattern FXSSI_SHORT_NEW = Pattern.compile("-\\s*Short Position:\\s*(\\d+)%");
+
+    /**
+     * Analyst consensus block: starts with "ANALYSTEN-KONSENS" and goes until
+     * "KONFLIKT-ANALYSE", "Technische Überdehnung" or the next section.
+     */
+    static final Pattern CONSENSUS_BLOCK = Pattern.compile(
+            "(?s)(ANALYSTEN-KONSENS.*?)(?=(?:KONFLIKT-ANALYSE|Technische Überdehnung|### SECTION|## SECTION|$))");
+    /** Numeric consensus: "Konsens: 2 von 3" */
+    static final Pattern CONSENSUS_NUMBERS_DE = Pattern.compile("Konsens:.*?(\\d+\\s+von\\s+\\d+)");
+    /** Numeric consensus: "Konsens: 1 of 4" */
+    static final Pattern CONSENSUS_NUMBERS_EN = Pattern.compile("Konsens:.*?(\\d+\\s+of\\s+\\d+)");
+
+    /** "VIX Index: ca. 14-15" or "VIX Index: 14.5" (optional "ca." / "≈") */
+    static final Pattern VIX = Pattern.compile("VIX Index:.*?(?:ca\\.?\\s*|≈\\s*)?([\\d\\.\\-–]+)");
+    /**
+     * "RSI (14): Investing.com 42.48" -> skips the optional period "(14)" and
+     * any text before the value.
+     */
+    static final Pattern RSI = Pattern.compile("RSI\\s*(?:\\(\\d+\\))?.*?:[^\\d]*([\\d\\.]+)");
+    /** Numeric ATR, supports ":", tilde (~) and approx symbol (≈) */
+    static final Pattern ATR_VALUE = Pattern.compile("ATR.*?[:≈~]\\s*([\\d\\.]+)");
+    /** Textual ATR fallback: "niedrig", "low" */
+    static final Pattern ATR_TEXT = Pattern.compile("ATR.*?:.*?\"?([A-Za-z\\s]+)\"?");
+
+    // ---------------------------------------------------------------------
+    // FullAnalysisParser - SECTION_1 (profile / probabilities)
+    // ---------------------------------------------------------------------
+
+    /** "Datum: 2026-01-09" */
+    static final Pattern DATE_ISO = Pattern.compile("Datum:\\s*(\\d{4}-\\d{2}-\\d{2})");
+    /** English textual date: "Datum: January 9, 2026" */
+    static final Pattern DATE_ENGLISH = Pattern.compile("Datum:\\s*([A-Za-z]+\\s+\\d{1,2},\\s+\\d{4})");
+
+    static final Pattern TREND_START = Pattern.compile(
+            "(?i)(?:Wahrscheinlichkeit Trend-Start|Trend-Fortsetzungs-Risiko|Runaway-Trend Risiko).*?:\\s*(\\d+)%");
+    static final Pattern RANGE_REVERSION = Pattern
+            .compile("(?i)(?:Wahrscheinlichkeit Range/Reversion|Reversion-Wahrscheinlichkeit).*?:\\s*(\\d+)%");
+    static final Pattern RANGE_STABILITY = Pattern
+            .compile("(?i)(?:Erwartete Range Stabilitaet|Range-Trading Chance).*?:\\s*(\\d+)%");
+
+    // ---------------------------------------------------------------------
+    // FullAnalysisParser - SECTION_2/3/4 (derivation, control, rationales)
+    // ---------------------------------------------------------------------
+
+    static final Pattern BIAS = Pattern.compile("(?:Ergebnis|Finaler)\\s*Bias:\\s*(.*?)(\\(|$)");
+    static final Pattern PANIC_STATUS = Pattern.compile("(?s)Panic Check:.*?Status:\\s*(.*?)(?=\\n)");
+    static final Pattern CSV_SIGNAL = Pattern.compile("CSV_SIGNAL:\\s*(\\w+)");
+    /** Rationale headings: "N) Title" at line start */
+    static final Pattern RATIONALE_HEADING = Pattern.compile("(?m)^\\d+\\)\\s*(.*?)$");
+
+    // ---------------------------------------------------------------------
+    // ReportParser (legacy day-by-day format)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Regex to capture Date from lines like:
+     * "**Montag, 5. Januar 2026:**" or "Datum: 4. Januar 2026"
+     *
+     * Groups:
+     * 1: Optional Prefix/Weekday (e.g. "Montag", "Datum", "Am")
+     * 2: Day (e.g. 5)
+     * 3: Month Name (e.g. Januar)
+     * 4: Year (e.g. 2026)
+     */
+    static final Pattern REPORT_DATE = Pattern.compile(
+            "(?:\\*\\*)?\\s*([A-Za-zäöüÄÖÜß]+).*?\\s*(\\d{1,2})\\.\\s*([A-Za-zäöüÄÖÜß]+)\\s*(\\d{4})(?:.*)?$");
+    /** ISO Date: "Datum: 2026-01-04" */
+    static final Pattern REPORT_DATE_ISO = Pattern.compile("Datum:\\s*(\\d{4})-(\\d{1,2})-(\\d{1,2})");
+    /** German Numeric Date: "Datum: 05.01.2026" */
+    static final Pattern REPORT_DATE_NUMERIC_DE = Pattern.compile("Datum:\\s*(\\d{1,2})\\.(\\d{1,2})\\.(\\d{4})");
+
+    // Probability lines: all keywords are found in one pass per line by
+    // REPORT_KEYWORDS, ReportParser then reads the number in front of the
+    // next '%'. Replaces the "(?i)keyword.*?:?\s*(\d+)%" regexes.
+    static final int KW_PROBABILITY = 0;
+    static final int KW_TREND_START = 1;
+    static final int KW_RANGE_REVERSION = 2;
+    static final int KW_RANGE_STABILITY = 3;
+    static final int KW_UP = 4;
+    static final int KW_BULLISH = 5;
+    static final int KW_UP_EN = 6;
+    static final int KW_SIDE = 7;
+    static final int KW_NEUTRAL = 8;
+    static final int KW_FLAT = 9;
+    static final int KW_DOWN = 10;
+    static final int KW_BEARISH = 11;
+    static final int KW_DOWN_EN = 12;
+    static final int KW_DATUM = 13;
+    static final KeywordMatcher REPORT_KEYWORDS = new KeywordMatcher(
+            "Wahrscheinlichkeit",
+            "Wahrscheinlichkeit Trend-Start",
+            "Wahrscheinlichkeit Range/Reversion",
+            "Erwartete Range Stabilitaet",
+            "steigt", "bullisch", "up",
+            "seitwärts", "neutral", "flat",
+            "fällt", "bärisch", "down",
+            "Datum:");
+
+    // ---------------------------------------------------------------------
+    // FullAnalysisParser - signal explanation
+    // ---------------------------------------------------------------------
+
+    /** Sentence boundary for the signal explanation */
+    static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?])\\s+");
+}
@@ -0,0 +1,206 @@
+package com.antigravity.sentiment.logic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic generator for synthetic report trees (scale tests, benchmarks).
+ * Same seed + parameters = byte-identical files and identical timestamps.
+ *
+ * Covers the SECTION_0..SECTION_4 dialects the parser handles:
+ * old "Ratio (Long/Short)" vs. new "Long Position" FXSSI, Trend-Start/Range
+ * vs. Runaway-Trend/Range-Trading wording, "##" vs. "###" headers, ISO vs.
+ * English dates, panic status and BUY/SELL/NEUTRAL signals.
+ *
+ * Usage: ReportCorpusGenerator &lt;root&gt; [assets] [filesPerAsset] [fileSizeBytes] [seed]
+ */
+public class ReportCorpusGenerator {
+
+    private static final String[] ASSET_NAMES = { "EURUSD", "GBPUSD", "USDJPY", "AUDUSD", "USDCHF", "USDCAD",
+            "NZDUSD", "EURJPY", "EURGBP", "AUDJPY", "GBPJPY", "XAUUSD", "XAGUSD" };
+    private static final String[] SIGNALS = { "BUY", "SELL", "NEUTRAL" };
+    private static final String[] BIASES = { "LONG", "SHORT", "NEUTRAL" };
+    private static final String[] FILLER = { "Die Volatilität bleibt erhöht.", "Retail-Trader sind einseitig positioniert.",
+            "Der Markt wartet auf neue Makrodaten.", "Analysten sehen kurzfristig eine Range.",
+            "Die Zinsdifferenz stützt den Trend.", "Ein Ausbruch ist derzeit nicht bestätigt.",
+            "Das Sentiment dreht langsam.", "Keine High-Impact Events in den nächsten 24h." };
+
+    private static final DateTimeFormatter ENGLISH_DATE = DateTimeFormatter.ofPattern("MMMM d, yyyy",
+            Locale.ENGLISH);
+    private static final LocalDate NEWEST_DATE = LocalDate.of(2026, 1, 30);
+
+    private final long seed;
+
+    public ReportCorpusGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReportCorpusGenerator <root> [assets] [filesPerAsset] [fileSizeBytes] [seed]");
+            return;
+        }
+        File root = new File(args[0]);
+        int assets = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        int filesPerAsset = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        int fileSize = args.length > 3 ? Integer.parseInt(args[3]) : 4096;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+
+        long t0 = System.nanoTime();
+        int files = new ReportCorpusGenerator(seed).generate(root, assets, filesPerAsset, fileSize);
+        System.out.printf("Generated %d files in %d asset folders below %s (%.1f s)%n", files, assets,
+                root.getAbsolutePath(), (System.nanoTime() - t0) / 1e9);
+    }
+
+    /**
+     * Writes root/groupN/ASSET/report_yyyy-MM-dd.txt. File i of an asset is
+     * dated i days before the newest report; lastModified follows the date.
+     *
+     * @param fileSizeBytes approximate minimum file size, reports are padded with
+     *                      rationale text (0 = no padding)
+     * @return number of files written
+     */
+    public int generate(File root, int assets, int filesPerAsset, int fileSizeBytes) throws IOException {
+        int count = 0;
+        for (int a = 0; a < assets; a++) {
+            File assetDir = new File(new File(root, "group" + (a % 16)), assetName(a));
+            assetDir.mkdirs();
+            for (int f = 0; f < filesPerAsset; f++) {
+                LocalDate date = NEWEST_DATE.minusDays(f);
+                File file = new File(assetDir, "report_" + date + ".txt");
+                Files.writeString(file.toPath(), generateReport(a, f, date, fileSizeBytes));
+                file.setLastModified(date.atTime(18, 0).toInstant(ZoneOffset.UTC).toEpochMilli());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static String assetName(int assetIndex) {
+        if (assetIndex < ASSET_NAMES.length)
+            return ASSET_NAMES[assetIndex];
+        return ASSET_NAMES[assetIndex % ASSET_NAMES.length] + "_" + assetIndex;
+    }
+
+    /**
+     * Builds one report. The dialect is chosen from (seed, asset, file), so a
+     * tree always mixes all format variants.
+     */
+    public String generateReport(int assetIndex, int fileIndex, LocalDate date, int fileSizeBytes) {
+        Random rnd = new Random(seed * 31 + assetIndex * 100_003L + fileIndex);
+
+        boolean tripleHash = rnd.nextInt(4) != 0; // 25% "##" headers
+        boolean oldFxssi = rnd.nextInt(3) == 0;
+        boolean runaway = rnd.nextBoolean();
+        boolean englishDate = rnd.nextInt(5) == 0;
+        boolean panic = rnd.nextInt(20) == 0;
+        String h = tripleHash ? "### " : "## ";
+        String instrument = assetName(assetIndex);
+
+        int fxLong = 20 + rnd.nextInt(61);
+        int side = 20 + rnd.nextInt(61);
+        int trend = 100 - side;
+        String signal = SIGNALS[rnd.nextInt(SIGNALS.length)];
+        String dateText = englishDate ? date.format(ENGLISH_DATE) : date.toString();
+
+        StringBuilder sb = new StringBuilder(Math.max(fileSizeBytes, 2048) + 256);
+
+        // SECTION_0
+        sb.append(h).append("SECTION_0_RECHERCHE_ERGEBNISSE\n");
+        sb.append("Instrument: ").append(instrument).append('\n');
+        if (!englishDate)
+            sb.append("Datum: ").append(dateText).append('\n');
+        sb.append('\n');
+        if (oldFxssi) {
+            sb.append("- FXSSI Ratio (Long/Short): ").append(fxLong).append("% / ").append(100 - fxLong)
+                    .append("%\n");
+        } else {
+            sb.append("FXSSI SENTIMENT (von https://fxssi.com/tools/):\n");
+            sb.append("- Long Position: ").append(fxLong).append("%\n");
+            sb.append("- Short Position: ").append(100 - fxLong).append("%\n");
+        }
+        sb.append('\n');
+        sb.append("ANALYSTEN-KONSENS (1-3 Tage):\n");
+        sb.append("Quelle 1 - DailyFX: ").append(BIASES[rnd.nextInt(BIASES.length)]).append('\n');
+        int sources = 3 + rnd.nextInt(2);
+        if (englishDate) {
+            sb.append("Konsens: ").append(1 + rnd.nextInt(sources)).append(" of ").append(sources)
+                    .append(" sources Bullish\n");
+        } else {
+            sb.append("Konsens: ").append(1 + rnd.nextInt(sources)).append(" von ").append(sources)
+                    .append(" Quellen Bullish\n");
+        }
+        sb.append('\n');
+        sb.append("Technische Überdehnung:\n");
+        sb.append("- RSI (14): ").append(20 + rnd.nextInt(60)).append('.').append(rnd.nextInt(100)).append('\n');
+        sb.append("- ATR (14): 0.00").append(10 + rnd.nextInt(90)).append('\n');
+        sb.append('\n');
+        int vix = 12 + rnd.nextInt(25);
+        sb.append("Makro-Risiken:\n");
+        sb.append("- VIX Index: ca. ").append(vix).append('–').append(vix + 1).append('\n');
+        sb.append('\n');
+
+        // SECTION_1
+        sb.append(h).append("SECTION_1_RISIKO_PROFIL\n");
+        sb.append("Instrument: ").append(instrument).append('\n');
+        if (englishDate)
+            sb.append("Datum: ").append(dateText).append('\n');
+        if (runaway) {
+            sb.append("Reversion-Wahrscheinlichkeit: ").append(side).append("%\n");
+            sb.append("Trend-Fortsetzungs-Risiko: ").append(trend).append("%\n");
+            sb.append("Grid-Sicherheit (nächste 1-3 Tage):\n");
+            sb.append("- Range-Trading Chance: ").append(side).append("%\n");
+            sb.append("- Runaway-Trend Risiko: ").append(trend).append("%\n");
+        } else {
+            sb.append("Wahrscheinlichkeit Range/Reversion: ").append(side).append("%\n");
+            sb.append("Wahrscheinlichkeit Trend-Start: ").append(trend).append("%\n");
+        }
+        sb.append('\n');
+
+        // SECTION_2
+        sb.append(h).append("SECTION_2_LOGISCHE_HERLEITUNG\n");
+        sb.append("SCHRITT 1 - Panic Check:\n");
+        sb.append("Status: ").append(panic ? "PANIC (VIX > 30)" : "Sicher").append('\n');
+        sb.append('\n');
+        sb.append(runaway ? "Finaler Bias: " : "Ergebnis Bias: ").append(BIASES[rnd.nextInt(BIASES.length)])
+                .append(" (generiert)\n");
+        sb.append('\n');
+
+        // SECTION_3
+        sb.append(h).append("SECTION_3_ROBOTER_STEUERUNG\n");
+        sb.append("Instrument: ").append(instrument).append('\n');
+        sb.append("CSV_SIGNAL: ").append(signal).append('\n');
+        sb.append("Risiko-Level: MEDIUM\n");
+        sb.append('\n');
+
+        // SECTION_4 (padded to the requested size)
+        sb.append(h).append("SECTION_4_DETAILLIERTE_BEGRUENDUNG\n");
+        sb.append("1) Begründung des CSV_SIGNALS\n");
+        appendSentences(sb, rnd, 4);
+        sb.append("2) Crowd-Psychologie (FXSSI)\n");
+        appendSentences(sb, rnd, 3);
+        int section = 3;
+        while (sb.length() < fileSizeBytes) {
+            sb.append(section++).append(") Ergänzende Analyse\n");
+            appendSentences(sb, rnd, 12);
+        }
+        sb.append("END_OF_FILE\n");
+        return sb.toString();
+    }
+
+    private static void appendSentences(StringBuilder sb, Random rnd, int count) {
+        sb.append("- ");
+        for (int i = 0; i < count; i++) {
+            if (i > 0)
+                sb.append(' ');
+            sb.append(FILLER[rnd.nextInt(FILLER.length)]);
+        }
+        sb.append("\n\n");
+    }
+}
@@ -0,0 +1,24 @@
+package com.antigravity.sentiment.logic;
+
+import java.io.File;
+
+/**
+ * A report file with the attributes read once during the directory scan,
+ * so sorting and index lookups need no further stat calls.
+ */
+final class ReportFile {
+
+    final File file;
+    final long size;
+    final long lastModified;
+
+    ReportFile(File file, long size, long lastModified) {
+        this.file = file;
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+
+    String path() {
+        return file.getAbsolutePath();
+    }
+}
@@ -1,72 +1,16 @@
 package com.antigravity.sentiment.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class ReportParser {
 
-    /**
-     * Regex to capture Date from lines like:
-     * "**Montag, 5. Januar 2026:**" or "Datum: 4. Januar 2026"
-     * 
-     * Groups:
-     * 1: Optional Prefix/Weekday (e.g. "Montag", "Datum", "Am")
-     * 2: Day (e.g. 5)
-     * 3: Month Name (e.g. Januar)
-     * 4: Year (e.g. 2026)
-     */
-    private static final Pattern DATE_PATTERN = Pattern.compile(
-            "(?:\\*\\*)?\\s*([A-Za-zäöüÄÖÜß]+).*?\\s*(\\d{1,2})\\.\\s*([A-Za-zäöüÄÖÜß]+)\\s*(\\d{4})(?:.*)?$");
-
-    /**
-     * Regex to capture ISO Date: "Datum: 2026-01-04"
-     */
-    private static final Pattern DATE_PATTERN_ISO = Pattern.compile(
-            "Datum:\\s*(\\d{4})-(\\d{1,2})-(\\d{1,2})");
-
-    /**
-     * Regex to capture German Numeric Date: "Datum: 05.01.2026"
-     */
-    private static final Pattern DATE_PATTERN_NUMERIC_DE = Pattern.compile(
-            "Datum:\\s*(\\d{1,2})\\.(\\d{1,2})\\.(\\d{4})");
-
-    // Matches percentages for specific keywords
-    // Strategy: Try PATTERN 1, if fail try PATTERN 2, etc. (Fallback logic)
-
-    private static final List<Pattern> UP_PATTERNS = new ArrayList<>();
-    private static final List<Pattern> SIDE_PATTERNS = new ArrayList<>();
-    private static final List<Pattern> DOWN_PATTERNS = new ArrayList<>();
-
-    // NEW PATTERNS for "Trend-Start" and "Range" logic
-    private static final Pattern TREND_START_PATTERN = Pattern
-            .compile("(?i)Wahrscheinlichkeit Trend-Start.*?:\\s*(\\d+)%");
-    private static final Pattern RANGE_REV_PATTERN = Pattern
-            .compile("(?i)Wahrscheinlichkeit Range/Reversion.*?:\\s*(\\d+)%");
-    private static final Pattern RANGE_STAB_PATTERN = Pattern.compile("(?i)Erwartete Range Stabilitaet.*?:\\s*(\\d+)%");
-
-    static {
-        // UP Patterns
-        UP_PATTERNS.add(Pattern.compile("(?i)Wahrscheinlichkeit.*?steigt.*?:?\\s*(\\d+)%"));
-        UP_PATTERNS.add(Pattern.compile("(?i)steigt.*?:?\\s*(\\d+)%"));
-        UP_PATTERNS.add(Pattern.compile("(?i)bullisch.*?:?\\s*(\\d+)%"));
-        UP_PATTERNS.add(Pattern.compile("(?i)up.*?:?\\s*(\\d+)%"));
-
-        // SIDE Patterns
-        SIDE_PATTERNS.add(Pattern.compile("(?i)Wahrscheinlichkeit.*?seitwärts.*?:?\\s*(\\d+)%"));
-        SIDE_PATTERNS.add(Pattern.compile("(?i)seitwärts.*?:?\\s*(\\d+)%"));
-        SIDE_PATTERNS.add(Pattern.compile("(?i)neutral.*?:?\\s*(\\d+)%"));
-        SIDE_PATTERNS.add(Pattern.compile("(?i)flat.*?:?\\s*(\\d+)%"));
-
-        // DOWN Patterns
-        DOWN_PATTERNS.add(Pattern.compile("(?i)Wahrscheinlichkeit.*?fällt.*?:?\\s*(\\d+)%"));
-        DOWN_PATTERNS.add(Pattern.compile("(?i)fällt.*?:?\\s*(\\d+)%"));
-        DOWN_PATTERNS.add(Pattern.compile("(?i)bärisch.*?:?\\s*(\\d+)%"));
-        DOWN_PATTERNS.add(Pattern.compile("(?i)down.*?:?\\s*(\\d+)%"));
-    }
+    // Date, probability and keyword regexes live in ParserPatterns
+    // (precompiled, shared, thread-safe)
 
     // Month mapping for formatting
     private static final Map<String, String> MONTH_MAP = new HashMap<>();
@@ -108,33 +52,42 @@ public class ReportParser {
         }
     }
 
-    public List<DayForecast> parseContent(String content) {
+    /**
+     * Parses the day-by-day forecasts. Works line by line on the content
+     * without copying it; Strings are only created for matched values.
+     */
+    public List<DayForecast> parseContent(CharSequence content) {
         List<DayForecast> results = new ArrayList<>();
-        // Split by new line
-        String[] lines = content.split("\\R");
+        LineCursor line = new LineCursor(content);
 
         DayForecast currentForecast = null;
-
-        for (String line : lines) {
-            line = line.trim();
+        LineKeywords keywords = new LineKeywords();
+        // Reset onto each line instead of a new Matcher per line
+        Matcher isoMatcher = ParserPatterns.REPORT_DATE_ISO.matcher("");
+        Matcher deMatcher = ParserPatterns.REPORT_DATE_NUMERIC_DE.matcher("");
+        Matcher dateMatcher = ParserPatterns.REPORT_DATE.matcher("");
+
+        while (line.next()) {
+            line.trim();
             if (line.isEmpty())
                 continue;
 
+            keywords.scan(line);
+
             // --- DATE DETECTION ---
 
             // Check for explicit "Datum:" ISO format first
-            Matcher isoMatcher = DATE_PATTERN_ISO.matcher(line);
-            Matcher deMatcher = DATE_PATTERN_NUMERIC_DE.matcher(line);
             String newDate = null;
+            boolean datum = keywords.contains(ParserPatterns.KW_DATUM); // prefilter, both need "Datum:"
 
-            if (isoMatcher.find()) {
+            if (datum && isoMatcher.reset(line).find()) {
                 String year = isoMatcher.group(1);
                 String month = isoMatcher.group(2);
                 String day = isoMatcher.group(3);
                 int m = Integer.parseInt(month);
                 int d = Integer.parseInt(day);
                 newDate = d + "." + m + "." + year.substring(2);
-            } else if (deMatcher.find()) {
+            } else if (datum && deMatcher.reset(line).find()) {
                 String day = deMatcher.group(1);
                 String month = deMatcher.group(2);
                 String year = deMatcher.group(3);
@@ -142,15 +95,14 @@ public class ReportParser {
                 int m = Integer.parseInt(month);
                 String shortYear = year.length() == 4 ? year.substring(2) : year;
                 newDate = d + "." + m + "." + shortYear;
-            } else {
-                Matcher dateMatcher = DATE_PATTERN.matcher(line);
-                if (dateMatcher.find()) {
+            } else if (hasDigitDot(line)) { // prefilter, the day is "\d{1,2}\."
+                if (dateMatcher.reset(line).find()) {
                     String prefix = dateMatcher.group(1);
                     String day = dateMatcher.group(2);
                     String month = dateMatcher.group(3);
                     String year = dateMatcher.group(4);
 
-                    if (!line.toLowerCase().contains(" bis ")) {
+                    if (!containsIgnoreCase(line, " bis ")) {
                         newDate = formatDate(prefix, day, month, year);
                     }
                 }
@@ -169,9 +121,9 @@ public class ReportParser {
 
             if (currentForecast != null) {
                 // 1. Try New Logic ("Trend-Start" / "Range")
-                Matcher rangeRevM = RANGE_REV_PATTERN.matcher(line);
-                if (rangeRevM.find()) {
-                    int val = Integer.parseInt(rangeRevM.group(1));
+                String rangeRev = keywords.numberAfter(ParserPatterns.KW_RANGE_REVERSION, true);
+                if (rangeRev != null) {
+                    int val = Integer.parseInt(rangeRev);
                     currentForecast.sideways = val + "%";
 
                     if (currentForecast.up.equals("0%") && currentForecast.down.equals("0%")) {
@@ -183,9 +135,9 @@ public class ReportParser {
                     }
                 }
 
-                Matcher rangeStabM = RANGE_STAB_PATTERN.matcher(line);
-                if (rangeStabM.find()) {
-                    int val = Integer.parseInt(rangeStabM.group(1));
+                String rangeStab = keywords.numberAfter(ParserPatterns.KW_RANGE_STABILITY, true);
+                if (rangeStab != null) {
+                    int val = Integer.parseInt(rangeStab);
                     currentForecast.sideways = val + "%";
                     // Auto-split remainder
                     int remainder = 100 - val;
@@ -195,9 +147,9 @@ public class ReportParser {
                     }
                 }
 
-                Matcher trendStartM = TREND_START_PATTERN.matcher(line);
-                if (trendStartM.find()) {
-                    int val = Integer.parseInt(trendStartM.group(1));
+                String trendStart = keywords.numberAfter(ParserPatterns.KW_TREND_START, true);
+                if (trendStart != null) {
+                    int val = Integer.parseInt(trendStart);
                     // Explicit logic: Trend Start is risk, usually implies directional move
                     // We split it into Up/Down
                     currentForecast.up = (val / 2) + "%";
@@ -208,16 +160,20 @@ public class ReportParser {
                 // Avoid overwriting if already set by specific logic above unless explicit
                 // match found?
                 // Standard patterns search for "steigt", "fällt".
+                // Fallbacks: "Wahrscheinlichkeit ... steigt", then "steigt", "bullisch", "up"
 
-                String upVal = findFirstMatch(line, UP_PATTERNS);
+                String upVal = keywords.firstNumber(ParserPatterns.KW_UP, ParserPatterns.KW_BULLISH,
+                        ParserPatterns.KW_UP_EN);
                 if (upVal != null)
                     currentForecast.up = upVal + "%";
 
-                String sideVal = findFirstMatch(line, SIDE_PATTERNS);
+                String sideVal = keywords.firstNumber(ParserPatterns.KW_SIDE, ParserPatterns.KW_NEUTRAL,
+                        ParserPatterns.KW_FLAT);
                 if (sideVal != null)
                     currentForecast.sideways = sideVal + "%";
 
-                String downVal = findFirstMatch(line, DOWN_PATTERNS);
+                String downVal = keywords.firstNumber(ParserPatterns.KW_DOWN, ParserPatterns.KW_BEARISH,
+                        ParserPatterns.KW_DOWN_EN);
                 if (downVal != null)
                     currentForecast.down = downVal + "%";
             }
@@ -231,16 +187,134 @@ public class ReportParser {
         return results;
     }
 
-    private String findFirstMatch(String line, List<Pattern> patterns) {
-        for (Pattern p : patterns) {
-            Matcher m = p.matcher(line);
-            if (m.find()) {
-                return m.group(1);
+    /**
+     * First occurrence of every keyword in the current line, from one pass of
+     * {@link ParserPatterns#REPORT_KEYWORDS}.
+     *
+     * A regex "keyword.*?:?\s*(\d+)%" only depends on the first occurrence
+     * of its keyword: the lazy ".*?" already tries every later position, so
+     * a later occurrence cannot match where the first one failed.
+     */
+    private static final class LineKeywords implements KeywordMatcher.Listener {
+        private final KeywordMatcher matcher = ParserPatterns.REPORT_KEYWORDS;
+        private final int[] first = new int[matcher.keywordCount()];
+        // first occurrence behind the first "Wahrscheinlichkeit"
+        private final int[] afterProbability = new int[matcher.keywordCount()];
+        private CharSequence line;
+
+        void scan(CharSequence line) {
+            this.line = line;
+            Arrays.fill(first, -1);
+            Arrays.fill(afterProbability, -1);
+            matcher.scan(line, this);
+        }
+
+        @Override
+        public void found(int keyword, int start) {
+            if (first[keyword] < 0)
+                first[keyword] = start;
+            // Occurrences arrive by end position, so the probability keyword
+            // is known before anything that starts behind it
+            int probability = first[ParserPatterns.KW_PROBABILITY];
+            if (afterProbability[keyword] < 0 && probability >= 0
+                    && start >= probability + matcher.length(ParserPatterns.KW_PROBABILITY))
+                afterProbability[keyword] = start;
+        }
+
+        boolean contains(int keyword) {
+            return first[keyword] >= 0;
+        }
+
+        /**
+         * Same as "(?i)keyword.*?:\s*(\d+)%" (colonRequired) or
+         * "(?i)keyword.*?:?\s*(\d+)%".
+         */
+        String numberAfter(int keyword, boolean colonRequired) {
+            if (first[keyword] < 0)
+                return null;
+            return numberBeforePercent(line, first[keyword] + matcher.length(keyword), colonRequired);
+        }
+
+        /**
+         * Keyword fallbacks: "Wahrscheinlichkeit.*?" + the first keyword, then
+         * each keyword on its own, in the given order.
+         */
+        String firstNumber(int... keywords) {
+            int main = keywords[0];
+            if (afterProbability[main] >= 0) {
+                String value = numberBeforePercent(line, afterProbability[main] + matcher.length(main), false);
+                if (value != null)
+                    return value;
+            }
+            for (int keyword : keywords) {
+                String value = numberAfter(keyword, false);
+                if (value != null)
+                    return value;
             }
+            return null;
+        }
+    }
+
+    /**
+     * Regex tail ".*?:?\s*(\d+)%" from position from: the first position
+     * where an optional ':' (required if colonRequired), whitespace and
+     * digits are followed by '%'. Returns the digits or null.
+     */
+    private static String numberBeforePercent(CharSequence line, int from, boolean colonRequired) {
+        int n = line.length();
+        for (int q = from; q < n; q++) {
+            int r = q;
+            if (line.charAt(r) == ':')
+                r++;
+            else if (colonRequired)
+                continue;
+            while (r < n && isRegexSpace(line.charAt(r)))
+                r++;
+            int digits = r;
+            while (r < n && line.charAt(r) >= '0' && line.charAt(r) <= '9')
+                r++;
+            if (r > digits && r < n && line.charAt(r) == '%')
+                return line.subSequence(digits, r).toString();
         }
         return null;
     }
 
+    // "\s" without UNICODE_CHARACTER_CLASS
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean hasDigitDot(CharSequence line) {
+        for (int i = 1; i < line.length(); i++) {
+            if (line.charAt(i) == '.' && line.charAt(i - 1) >= '0' && line.charAt(i - 1) <= '9')
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Case-insensitive contains over the line itself, no lower-cased copy.
+     * Folds ASCII case like {@link KeywordMatcher}; word must be lower case.
+     */
+    private static boolean containsIgnoreCase(CharSequence line, String word) {
+        for (int i = 0; i + word.length() <= line.length(); i++) {
+            if (regionMatchesIgnoreCase(line, i, word))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence line, int from, String word) {
+        for (int j = 0; j < word.length(); j++) {
+            char c = line.charAt(from + j);
+            if (c >= 'A' && c <= 'Z')
+                c += 'a' - 'A';
+            if (c != word.charAt(j))
+                return false;
+        }
+        return true;
+    }
+
     private String formatDate(String prefix, String day, String monthName, String year) {
         String weekday = "";
         if (prefix != null && !prefix.equalsIgnoreCase("Datum") && !prefix.equalsIgnoreCase("Am")) {
@@ -0,0 +1,112 @@
+package com.antigravity.sentiment.logic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads report files (UTF-8) into per-thread buffers that are reused for
+ * every file, instead of a new byte[] and String per report.
+ *
+ * Files up to {@value #POOLED_MAX_BYTES} bytes are read into a pooled direct
+ * buffer, larger ones are memory-mapped. Not everything is mapped because
+ * on Windows a mapped file stays locked until the mapping is garbage
+ * collected, and n8n could not overwrite the report in the meantime.
+ *
+ * The returned CharSequence is only valid until the next read on the same
+ * thread. Malformed UTF-8 throws like {@code Files.readString}.
+ */
+final class ReportReader {
+
+    private static final int POOLED_MAX_BYTES = 4 * 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<ReportReader> POOL = ThreadLocal.withInitial(ReportReader::new);
+
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    private ByteBuffer bytes = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+    private CharBuffer chars = CharBuffer.allocate(INITIAL_CAPACITY);
+    private boolean truncated;
+
+    private ReportReader() {
+    }
+
+    /**
+     * The reader of the calling thread.
+     */
+    static ReportReader get() {
+        return POOL.get();
+    }
+
+    /**
+     * Whole file content, valid until the next read on this thread.
+     */
+    CharSequence read(File file) throws IOException {
+        return read(file, Long.MAX_VALUE);
+    }
+
+    /**
+     * The first maxBytes of the file (a multi-byte character cut off at the
+     * end is dropped). See {@link #isTruncated()}.
+     */
+    CharSequence read(File file, long maxBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long length = Math.min(size, maxBytes);
+            truncated = size > maxBytes;
+
+            ByteBuffer in;
+            if (length > POOLED_MAX_BYTES) {
+                in = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            } else {
+                if (bytes.capacity() < length)
+                    bytes = ByteBuffer.allocateDirect(Math.max((int) length, bytes.capacity() * 2));
+                bytes.clear();
+                bytes.limit((int) length);
+                while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                    // read until the limit or EOF (file shrank meanwhile)
+                }
+                bytes.flip();
+                in = bytes;
+            }
+            return decode(in, !truncated);
+        }
+    }
+
+    /**
+     * True if the last read stopped at maxBytes before the end of the file.
+     */
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    private CharSequence decode(ByteBuffer in, boolean endOfInput) throws CharacterCodingException {
+        // UTF-8 never yields more chars than bytes
+        int needed = in.remaining();
+        if (chars.capacity() < needed)
+            chars = CharBuffer.allocate(Math.max(needed, chars.capacity() * 2));
+        chars.clear();
+
+        decoder.reset();
+        CoderResult result = decoder.decode(in, chars, endOfInput);
+        if (result.isError())
+            result.throwException();
+        if (endOfInput) {
+            result = decoder.flush(chars);
+            if (result.isError())
+                result.throwException();
+        }
+        chars.flip();
+        return chars;
+    }
+}
@@ -0,0 +1,127 @@
+package com.antigravity.sentiment.logic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Directory scan for asset folders based on {@link Files#walkFileTree}.
+ * Every directory is listed once and the attributes of each entry come with
+ * the listing (on Windows straight from the directory read), instead of
+ * separate listFiles() calls and one stat per lastModified() comparison.
+ */
+final class ReportScanner {
+
+    private static final Comparator<ReportFile> NEWEST_FIRST = Comparator
+            .comparingLong((ReportFile r) -> r.lastModified).reversed();
+
+    /** Asset folder = directory with at least one .txt report, reports newest first. */
+    static final class AssetFolder {
+        final File dir;
+        final List<ReportFile> reports;
+
+        AssetFolder(File dir, List<ReportFile> reports) {
+            this.dir = dir;
+            this.reports = reports;
+        }
+    }
+
+    private ReportScanner() {
+    }
+
+    /**
+     * All asset folders below root (including root), parents before their
+     * subfolders. Unreadable directories are skipped.
+     */
+    static List<AssetFolder> findAssetFolders(File root) {
+        List<AssetFolder> folders = new ArrayList<>();
+        List<List<ReportFile>> open = new ArrayList<>(); // reports of the directories on the current path
+        List<Integer> slots = new ArrayList<>();
+
+        try {
+            Files.walkFileTree(root.toPath(), EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                    new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                            // Reserve the position now so parents come before their subfolders
+                            slots.add(folders.size());
+                            folders.add(null);
+                            open.add(new ArrayList<>());
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                            if (isReport(file, attrs))
+                                open.get(open.size() - 1).add(toReportFile(file, attrs));
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+                            List<ReportFile> reports = open.remove(open.size() - 1);
+                            int slot = slots.remove(slots.size() - 1);
+                            if (!reports.isEmpty()) {
+                                reports.sort(NEWEST_FIRST);
+                                folders.set(slot, new AssetFolder(dir.toFile(), reports));
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        } catch (IOException e) {
+            System.err.println("Error scanning " + root + ": " + e.getMessage());
+        }
+
+        folders.removeIf(f -> f == null);
+        return folders;
+    }
+
+    /**
+     * The .txt reports directly in dir, newest first (empty if unreadable).
+     */
+    static List<ReportFile> listReports(File dir) {
+        List<ReportFile> reports = new ArrayList<>();
+        try {
+            Files.walkFileTree(dir.toPath(), EnumSet.noneOf(FileVisitOption.class), 1,
+                    new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                            if (isReport(file, attrs))
+                                reports.add(toReportFile(file, attrs));
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        } catch (IOException e) {
+            System.err.println("Error listing " + dir + ": " + e.getMessage());
+        }
+        reports.sort(NEWEST_FIRST);
+        return reports;
+    }
+
+    private static boolean isReport(Path file, BasicFileAttributes attrs) {
+        return attrs.isRegularFile() && file.getFileName().toString().toLowerCase().endsWith(".txt");
+    }
+
+    private static ReportFile toReportFile(Path file, BasicFileAttributes attrs) {
+        return new ReportFile(file.toFile(), attrs.size(), attrs.lastModifiedTime().toMillis());
+    }
+}
@@ -0,0 +1,340 @@
+package com.antigravity.sentiment.logic;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the root directory for new or modified .txt reports and reports
+ * the affected asset folders, so that only those rows have to be refreshed.
+ *
+ * Uses a recursive {@link WatchService}. If that is not available (e.g. some
+ * network shares) or polling is forced, the tree is polled instead.
+ * Events are debounced, because n8n writes a report in several chunks.
+ */
+public class ReportWatcher implements Closeable {
+
+    public interface Listener {
+        /**
+         * Called on the watcher thread for every asset folder with new,
+         * modified or deleted reports.
+         */
+        void assetFolderChanged(File assetDir);
+    }
+
+    private static final long DEBOUNCE_MS = 200;
+    private static final long MAX_DELAY_MS = 800; // deliver even if writes keep coming
+    // Same view of the tree as the crawler (ReportScanner)
+    private static final EnumSet<FileVisitOption> FOLLOW_LINKS = EnumSet.of(FileVisitOption.FOLLOW_LINKS);
+
+    private final Path root;
+    private final long pollIntervalMs;
+    private final boolean forcePolling;
+    private final Listener listener;
+
+    private final Map<WatchKey, Path> watchedDirs = new HashMap<>();
+    // asset folder -> fingerprint of its .txt files (polling and overflow recovery)
+    private Map<Path, Long> snapshot = new HashMap<>();
+
+    private WatchService watchService;
+    private Thread thread;
+    private volatile boolean running;
+    private volatile boolean polling;
+
+    /**
+     * @param pollIntervalMs interval for the polling fallback
+     * @param forcePolling   true to skip the WatchService (network shares)
+     */
+    public ReportWatcher(File root, long pollIntervalMs, boolean forcePolling, Listener listener) {
+        this.root = root.toPath();
+        this.pollIntervalMs = Math.max(100, pollIntervalMs);
+        this.forcePolling = forcePolling;
+        this.listener = listener;
+    }
+
+    public synchronized void start() {
+        if (running)
+            return;
+        running = true;
+
+        polling = forcePolling;
+        if (!polling) {
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                System.err.println("WatchService not available, falling back to polling: " + e.getMessage());
+                polling = true;
+            }
+        }
+
+        thread = new Thread(polling ? this::pollLoop : this::watchLoop, "report-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isPolling() {
+        return polling;
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+                // closing anyway
+            }
+        }
+        if (thread != null)
+            thread.interrupt();
+    }
+
+    // ---------------------------------------------------------------------
+    // WatchService mode
+    // ---------------------------------------------------------------------
+
+    private void watchLoop() {
+        try {
+            registerTree(root);
+            snapshot = takeSnapshot();
+        } catch (IOException e) {
+            System.err.println("Could not watch " + root + ", falling back to polling: " + e.getMessage());
+            polling = true;
+            pollLoop();
+            return;
+        }
+
+        Set<Path> pending = new LinkedHashSet<>();
+        long pendingSince = 0;
+        try {
+            while (running) {
+                WatchKey key = pending.isEmpty() ? watchService.take()
+                        : watchService.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+
+                boolean overdue = !pending.isEmpty() && System.currentTimeMillis() - pendingSince > MAX_DELAY_MS;
+                if (key == null || overdue) {
+                    // Quiet for DEBOUNCE_MS (or waited long enough) -> deliver
+                    for (Path dir : pending) {
+                        rememberFolder(dir);
+                        notifyListener(dir);
+                    }
+                    pending.clear();
+                    if (key == null)
+                        continue;
+                }
+                if (pending.isEmpty())
+                    pendingSince = System.currentTimeMillis();
+
+                Path dir = watchedDirs.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events lost -> compare against the last snapshot
+                        pending.addAll(changedFolders());
+                        continue;
+                    }
+                    if (dir == null)
+                        continue;
+                    Path child = dir.resolve((Path) event.context());
+
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        // Also a whole folder moved or renamed out of the tree: its rows go away
+                        pending.addAll(knownFoldersUnder(child));
+                        if (isReport(child))
+                            pending.add(dir);
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child)) {
+                        try {
+                            registerTree(child);
+                        } catch (IOException e) {
+                            // e.g. removed again right away; the watcher keeps running
+                            System.err.println("Could not watch " + child + ": " + e.getMessage());
+                        }
+                        pending.addAll(foldersWithReports(child));
+                    } else if (isReport(child)) {
+                        pending.add(dir);
+                    }
+                }
+                if (!key.reset())
+                    watchedDirs.remove(key);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    private void registerTree(Path start) throws IOException {
+        Files.walkFileTree(start, FOLLOW_LINKS, Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                try {
+                    WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                    watchedDirs.put(key, dir);
+                } catch (IOException e) {
+                    // Removed again or not readable: skip it, keep watching the rest
+                    System.err.println("Could not watch " + dir + ": " + e.getMessage());
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    // ---------------------------------------------------------------------
+    // Polling mode
+    // ---------------------------------------------------------------------
+
+    private void pollLoop() {
+        snapshot = takeSnapshot();
+        while (running) {
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (Path dir : changedFolders()) {
+                notifyListener(dir);
+            }
+        }
+    }
+
+    /**
+     * Re-scans the tree and returns all asset folders whose fingerprint
+     * differs from the last snapshot (new, modified or removed).
+     */
+    private Set<Path> changedFolders() {
+        Map<Path, Long> current = takeSnapshot();
+        Set<Path> changed = new LinkedHashSet<>();
+        for (Map.Entry<Path, Long> e : current.entrySet()) {
+            if (!e.getValue().equals(snapshot.get(e.getKey())))
+                changed.add(e.getKey());
+        }
+        for (Path dir : snapshot.keySet()) {
+            if (!current.containsKey(dir))
+                changed.add(dir);
+        }
+        snapshot = current;
+        return changed;
+    }
+
+    private Map<Path, Long> takeSnapshot() {
+        Map<Path, Long> result = new HashMap<>();
+        try {
+            Files.walkFileTree(root, FOLLOW_LINKS, Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && isReport(file))
+                        result.merge(file.getParent(), fingerprint(file, attrs), Long::sum);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Could not scan " + root + ": " + e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Updates the snapshot entry of a delivered folder, so a later overflow
+     * only reports what changed since.
+     */
+    private void rememberFolder(Path dir) {
+        snapshot.remove(dir);
+        try {
+            Files.walkFileTree(dir, FOLLOW_LINKS, 1, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && isReport(file))
+                        snapshot.merge(dir, fingerprint(file, attrs), Long::sum);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            // folder gone: no entry
+        }
+    }
+
+    /** Asset folders of the snapshot at or below start (start may be gone already). */
+    private Set<Path> knownFoldersUnder(Path start) {
+        Set<Path> result = new LinkedHashSet<>();
+        for (Path dir : snapshot.keySet()) {
+            if (dir.startsWith(start))
+                result.add(dir);
+        }
+        return result;
+    }
+
+    private Set<Path> foldersWithReports(Path start) {
+        Set<Path> result = new LinkedHashSet<>();
+        try {
+            Files.walkFileTree(start, FOLLOW_LINKS, Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (isReport(file))
+                        result.add(file.getParent());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Could not scan " + start + ": " + e.getMessage());
+        }
+        return result;
+    }
+
+    private static long fingerprint(Path file, BasicFileAttributes attrs) {
+        return (attrs.lastModifiedTime().toMillis() * 31 + attrs.size()) * 31
+                + file.getFileName().toString().hashCode();
+    }
+
+    private static boolean isReport(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".txt");
+    }
+
+    private void notifyListener(Path dir) {
+        if (!running)
+            return; // closed meanwhile: the owner has moved on
+        try {
+            listener.assetFolderChanged(dir.toFile());
+        } catch (RuntimeException e) {
+            System.err.println("Error refreshing " + dir + ": " + e.getMessage());
+        }
+    }
+}
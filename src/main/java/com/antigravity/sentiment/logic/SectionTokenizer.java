@@ -0,0 +1,157 @@
+package com.antigravity.sentiment.logic;
+
+/**
+ * Finds all "## SECTION_n" / "### SECTION_n" headers (and END_OF_FILE) of a
+ * full analysis in a single scan and exposes the section bodies as
+ * zero-copy {@link CharView}s.
+ *
+ * Block semantics are the same as the former indexOf-based extraction:
+ * a section runs from the line after its first header to the first header of
+ * the next section number (SECTION_4: to END_OF_FILE), otherwise to the end.
+ * The "###" variant is preferred, "##" is the fallback.
+ */
+final class SectionTokenizer {
+
+    static final int SECTION_COUNT = 5;
+
+    private static final String HEADER = "## SECTION_";
+    private static final String END_OF_FILE = "END_OF_FILE";
+
+    private final CharSequence content;
+
+    // Header occurrences in document order. Position is the start of "##";
+    // triple = preceded by a third '#'.
+    private int[] headerPos = new int[16];
+    private int[] headerNum = new int[16];
+    private boolean[] headerTriple = new boolean[16];
+    private int headerCount;
+
+    private int[] endPos = new int[2];
+    private int endCount;
+
+    SectionTokenizer(CharSequence content) {
+        this.content = content;
+        scan();
+    }
+
+    private void scan() {
+        int len = content.length();
+        int lastHeader = len - HEADER.length() - 1; // header needs a trailing section number
+        int lastEnd = len - END_OF_FILE.length();
+
+        for (int i = 0; i < len; i++) {
+            char c = content.charAt(i);
+            if (c == '#') {
+                if (i <= lastHeader && regionMatches(i, HEADER)) {
+                    char num = content.charAt(i + HEADER.length());
+                    if (num >= '0' && num <= '9') {
+                        addHeader(i, num - '0', i > 0 && content.charAt(i - 1) == '#');
+                    }
+                    i += HEADER.length() - 1;
+                }
+            } else if (c == 'E') {
+                if (i <= lastEnd && regionMatches(i, END_OF_FILE)) {
+                    addEnd(i);
+                    i += END_OF_FILE.length() - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * True if a header of SECTION_n was found (body may still be empty).
+     */
+    boolean hasSection(int n) {
+        for (int h = 0; h < headerCount; h++) {
+            if (headerNum[h] == n)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Trimmed body of SECTION_n, or {@link CharView#EMPTY} if not present.
+     */
+    CharView section(int n) {
+        CharView block = block(n, true);
+        if (block.length() == 0)
+            block = block(n, false);
+        return block;
+    }
+
+    private CharView block(int n, boolean triple) {
+        int start = -1;
+        for (int h = 0; h < headerCount; h++) {
+            if (headerNum[h] == n && (!triple || headerTriple[h])) {
+                start = triple ? headerPos[h] - 1 : headerPos[h];
+                break;
+            }
+        }
+        if (start == -1)
+            return CharView.EMPTY;
+
+        int end = -1;
+        if (n == SECTION_COUNT - 1) {
+            for (int e = 0; e < endCount; e++) {
+                if (endPos[e] >= start) {
+                    end = endPos[e];
+                    break;
+                }
+            }
+        } else {
+            for (int h = 0; h < headerCount; h++) {
+                if (headerNum[h] != n + 1)
+                    continue;
+                if (triple) {
+                    if (headerTriple[h] && headerPos[h] - 1 >= start) {
+                        end = headerPos[h] - 1;
+                        break;
+                    }
+                } else if (headerPos[h] >= start) {
+                    end = headerPos[h];
+                    break;
+                }
+            }
+        }
+        if (end == -1)
+            end = content.length();
+
+        int headerEnd = indexOfNewline(start, end);
+        int bodyStart = headerEnd != -1 ? headerEnd + 1 : Math.min(start + (triple ? 1 : 0) + HEADER.length() + 1, end);
+        return new CharView(content, bodyStart, end).trim();
+    }
+
+    private int indexOfNewline(int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (content.charAt(i) == '\n')
+                return i;
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(int offset, String s) {
+        for (int j = 0; j < s.length(); j++) {
+            if (content.charAt(offset + j) != s.charAt(j))
+                return false;
+        }
+        return true;
+    }
+
+    private void addHeader(int pos, int num, boolean triple) {
+        if (headerCount == headerPos.length) {
+            headerPos = java.util.Arrays.copyOf(headerPos, headerCount * 2);
+            headerNum = java.util.Arrays.copyOf(headerNum, headerCount * 2);
+            headerTriple = java.util.Arrays.copyOf(headerTriple, headerCount * 2);
+        }
+        headerPos[headerCount] = pos;
+        headerNum[headerCount] = num;
+        headerTriple[headerCount] = triple;
+        headerCount++;
+    }
+
+    private void addEnd(int pos) {
+        if (endCount == endPos.length)
+            endPos = java.util.Arrays.copyOf(endPos, endCount * 2);
+        endPos[endCount++] = pos;
+    }
+}
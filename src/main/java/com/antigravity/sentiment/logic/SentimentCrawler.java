@@ -1,88 +1,292 @@
 package com.antigravity.sentiment.logic;
 
-import com.antigravity.sentiment.model.ForecastData;
+import com.antigravity.sentiment.config.ConfigManager;
+import com.antigravity.sentiment.logic.ReportScanner.AssetFolder;
+import com.antigravity.sentiment.model.AssetSnapshot;
 import com.antigravity.sentiment.model.FullAnalysisData;
-import com.antigravity.sentiment.model.HistoryData;
+import com.antigravity.sentiment.model.HistoryEntry;
+import com.antigravity.sentiment.model.ReportDates;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SentimentCrawler {
 
-    private final FullAnalysisParser parser = new FullAnalysisParser();
+    // Older reports are only probed for their signal; the rationales at the
+    // end are the bulk of a report and are not needed for that
+    private static final int HEADER_PROBE_BYTES = 8 * 1024;
+
+    private final FullAnalysisParser parser;
+    private final int parallelism;
+    private final ParseIndex index; // null = always parse
+    private final AnalysisCache cache; // null = no in-memory cache
+    private final HistoryStore history; // null = parse every report of a history
+
+    // absolute path -> date and signal of that report (validated by size/mtime)
+    private final Map<String, SignalEntry> signalCache = new ConcurrentHashMap<>();
+
+    /**
+     * Serial crawler (one asset folder after the other).
+     */
+    public SentimentCrawler() {
+        this(1);
+    }
+
+    /**
+     * @param parallelism number of asset folders parsed concurrently, 1 = serial
+     */
+    public SentimentCrawler(int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * @param parallelism number of asset folders parsed concurrently, 1 = serial
+     * @param index       persistent parse index, null to parse every file
+     */
+    public SentimentCrawler(int parallelism, ParseIndex index) {
+        this(parallelism, index, null);
+    }
+
+    /**
+     * @param parallelism number of asset folders parsed concurrently, 1 = serial
+     * @param index       persistent parse index, null to parse every file
+     * @param cache       in-memory cache of parsed reports, null for none
+     */
+    public SentimentCrawler(int parallelism, ParseIndex index, AnalysisCache cache) {
+        this(parallelism, index, cache, null);
+    }
+
+    /**
+     * @param parallelism number of asset folders parsed concurrently, 1 = serial
+     * @param index       persistent parse index, null to parse every file
+     * @param cache       in-memory cache of parsed reports, null for none
+     * @param history     per-asset history store, null to parse the reports
+     *                    of a history every time
+     */
+    public SentimentCrawler(int parallelism, ParseIndex index, AnalysisCache cache, HistoryStore history) {
+        this(parallelism, index, cache, history, new FullAnalysisParser());
+    }
+
+    private SentimentCrawler(int parallelism, ParseIndex index, AnalysisCache cache, HistoryStore history,
+            FullAnalysisParser parser) {
+        this.parallelism = Math.max(1, parallelism);
+        this.index = index;
+        this.cache = cache;
+        this.history = history;
+        this.parser = parser;
+    }
+
+    public SentimentCrawler(ConfigManager config) {
+        this(config.getCrawlParallelism(),
+                config.isParseIndexEnabled()
+                        ? new ParseIndex(config.getParseIndexFile(), config.isParseIndexHashEnabled())
+                        : null,
+                config.getAnalysisCacheBytes() > 0 ? new AnalysisCache(config.getAnalysisCacheBytes()) : null,
+                config.isHistoryStoreEnabled() ? new HistoryStore(config.getHistoryStoreDir()) : null,
+                new FullAnalysisParser(config.getDateWindowChars()));
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of parsed reports without a date in the header window, see
+     * {@link FullAnalysisParser#getDateFallbackCount()}.
+     */
+    public long getDateFallbackCount() {
+        return parser.getDateFallbackCount();
+    }
+
+    /**
+     * Number of report fields skipped because their regex ran out of budget,
+     * see {@link FullAnalysisParser#getRegexAbortCount()}.
+     */
+    public long getRegexAbortCount() {
+        return parser.getRegexAbortCount();
+    }
+
+    /**
+     * The shared cache of parsed reports, null if disabled.
+     */
+    public AnalysisCache getAnalysisCache() {
+        return cache;
+    }
 
-    public List<ForecastData> crawl(String rootPath) {
-        List<ForecastData> dataList = new ArrayList<>();
+    public List<AssetSnapshot> crawl(String rootPath) {
+        return crawl(rootPath, CrawlMonitor.NONE);
+    }
+
+    /**
+     * Crawls all asset folders below rootPath and reports every finished
+     * folder to the monitor. Stops early if the monitor is cancelled and
+     * returns what was finished until then.
+     */
+    public List<AssetSnapshot> crawl(String rootPath, CrawlMonitor monitor) {
+        List<AssetSnapshot> dataList = new ArrayList<>();
         File root = new File(rootPath);
 
         if (!root.exists() || !root.isDirectory()) {
             return dataList;
         }
 
-        findAssetFolders(root, dataList);
+        List<AssetFolder> assetFolders = ReportScanner.findAssetFolders(root);
+        pruneIndex(root, assetFolders);
+
+        OrderedProgress progress = new OrderedProgress(monitor, assetFolders.size());
+        if (parallelism <= 1 || assetFolders.size() < 2) {
+            for (int i = 0; i < assetFolders.size(); i++) {
+                if (monitor.isCancelled())
+                    break;
+                AssetSnapshot fd = crawlFolder(assetFolders.get(i), i, progress);
+                if (fd != null)
+                    dataList.add(fd);
+            }
+        } else {
+            crawlParallel(assetFolders, dataList, progress);
+        }
+
+        if (index != null)
+            index.save();
         return dataList;
     }
 
-    private void findAssetFolders(File directory, List<ForecastData> results) {
-        File[] files = directory.listFiles();
-        if (files == null)
+    /**
+     * Lazy crawl: an asset folder is parsed when the stream pulls it, with
+     * at most 2 x parallelism folders parsed ahead, so memory stays bounded
+     * for very large roots. Results come in discovery order.
+     * Close the stream (try-with-resources) to stop early; the parse index
+     * is saved on close or when the stream is exhausted.
+     */
+    public Stream<AssetSnapshot> stream(String rootPath) {
+        File root = new File(rootPath);
+        List<AssetFolder> assetFolders = root.isDirectory() ? ReportScanner.findAssetFolders(root)
+                : new ArrayList<>();
+        if (root.isDirectory())
+            pruneIndex(root, assetFolders);
+
+        FolderSpliterator folders = new FolderSpliterator(assetFolders);
+        return StreamSupport.stream(folders, false).onClose(folders::close);
+    }
+
+    /**
+     * Drops index entries of reports below root that the scan no longer
+     * found, so the index does not keep deleted or rotated reports forever.
+     */
+    private void pruneIndex(File root, List<AssetFolder> assetFolders) {
+        if (index == null)
             return;
+        Set<String> reportPaths = new HashSet<>();
+        for (AssetFolder folder : assetFolders) {
+            for (ReportFile report : folder.reports) {
+                reportPaths.add(report.path());
+            }
+        }
+        index.prune(root, reportPaths);
+    }
 
-        File[] textFiles = directory.listFiles((dir, name) -> name.toLowerCase().endsWith(".txt"));
-        if (textFiles != null && textFiles.length > 0) {
-            processAssetFolder(directory, results);
+    /**
+     * Re-reads a single asset folder (e.g. after the watcher reported a new
+     * report). Returns null if the folder no longer contains reports.
+     */
+    public AssetSnapshot crawlAssetFolder(String assetPath) {
+        File assetDir = new File(assetPath);
+        if (!assetDir.isDirectory())
+            return null;
+
+        AssetSnapshot fd = processAssetFolder(assetDir, ReportScanner.listReports(assetDir));
+        if (index != null)
+            index.save();
+        return fd;
+    }
+
+    /**
+     * Hands every asset folder to a work-stealing pool. Results are merged in
+     * discovery order, so the row order is identical to the serial crawl.
+     */
+    private void crawlParallel(List<AssetFolder> assetFolders, List<AssetSnapshot> results,
+            OrderedProgress progress) {
+        List<Callable<AssetSnapshot>> tasks = new ArrayList<>(assetFolders.size());
+        for (int i = 0; i < assetFolders.size(); i++) {
+            AssetFolder folder = assetFolders.get(i);
+            int position = i;
+            tasks.add(() -> progress.monitor.isCancelled() ? null : crawlFolder(folder, position, progress));
         }
 
-        for (File f : files) {
-            if (f.isDirectory()) {
-                findAssetFolders(f, results);
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, assetFolders.size()));
+        try {
+            for (Future<AssetSnapshot> future : pool.invokeAll(tasks)) {
+                try {
+                    AssetSnapshot fd = future.get();
+                    if (fd != null)
+                        results.add(fd);
+                } catch (ExecutionException e) {
+                    System.err.println("Error processing asset folder: " + e.getCause());
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdown();
         }
     }
 
-    private void processAssetFolder(File assetDir, List<ForecastData> results) {
+    private AssetSnapshot crawlFolder(AssetFolder folder, int position, OrderedProgress progress) {
+        AssetSnapshot snapshot = processAssetFolder(folder.dir, folder.reports);
+        progress.done(position, snapshot, folder.reports.size());
+        return snapshot;
+    }
+
+    /**
+     * @param reports the folder's reports, newest first (see {@link ReportScanner})
+     */
+    private AssetSnapshot processAssetFolder(File assetDir, List<ReportFile> reports) {
         String assetName = assetDir.getName();
 
-        File[] textFiles = assetDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".txt"));
-        if (textFiles == null || textFiles.length == 0)
-            return;
+        if (reports.isEmpty())
+            return null;
 
-        Arrays.sort(textFiles, Comparator.comparingLong(File::lastModified).reversed());
-        File newestFile = textFiles[0];
+        ReportFile newestFile = reports.get(0);
 
         try {
-            String content = Files.readString(newestFile.toPath());
-            FullAnalysisData analysis = parser.parseFullAnalysis(content);
+            FullAnalysisData analysis = parseFile(newestFile);
 
             // Determine Signal
             String signal = determineSignal(analysis);
+            LocalDate currentDate = ReportDates.parseDate(analysis.getDate());
+            cacheSignal(newestFile, currentDate, signal);
+            if (history != null)
+                history.append(assetDir, newestFile, analysis, signal);
 
             // Determine Last Signal (Previous File)
             String lastSignal = "";
-            if (textFiles.length > 1) {
+            if (reports.size() > 1) {
                 try {
-                    java.time.LocalDate currentDate = HistoryData.parseDate(analysis.getDate());
-
-                    for (int i = 1; i < textFiles.length; i++) {
-                        File lastFile = textFiles[i];
-                        String lastContent = Files.readString(lastFile.toPath());
-                        FullAnalysisData lastAnalysis = parser.parseFullAnalysis(lastContent);
-                        java.time.LocalDate lastDate = HistoryData.parseDate(lastAnalysis.getDate());
+                    for (int i = 1; i < reports.size(); i++) {
+                        SignalEntry last = probeSignal(reports.get(i));
+                        LocalDate lastDate = last.date;
 
                         // Condition: Must be at least 1 day older (strictly before current date)
                         // Also checks if dates are valid (not MIN)
-                        if (lastDate != java.time.LocalDate.MIN && currentDate != java.time.LocalDate.MIN
+                        if (lastDate != LocalDate.MIN && currentDate != LocalDate.MIN
                                 && lastDate.isBefore(currentDate)) {
-                            String lastSig = determineSignal(lastAnalysis);
-                            lastSignal = lastSig;
+                            lastSignal = last.signal;
                             break;
                         }
                     }
@@ -95,43 +299,7 @@ public class SentimentCrawler {
             String sentiment = analysis.getFxssiLong() + " L / " + analysis.getFxssiShort() + " S";
             String indicators = "RSI=" + analysis.getRsi() + ", ATR=" + analysis.getAtr();
 
-            // Extract explanation (first 3 sentences from reason "1)")
-            String explanation = "Keine Begründung verfügbar";
-            Map<String, String> rationales = analysis.getRationales();
-            if (rationales != null) {
-                for (Map.Entry<String, String> entry : rationales.entrySet()) {
-                    if (entry.getKey().toLowerCase().contains("begründung")
-                            && entry.getKey().toLowerCase().contains("csv_signal")) {
-                        String text = entry.getValue();
-                        // Split by sentence delimiters
-                        String[] sentences = text.split("(?<=[.!?])\\s+");
-                        StringBuilder sb = new StringBuilder();
-                        int count = 0;
-                        for (String sentence : sentences) {
-                            if (count >= 3)
-                                break;
-                            sb.append(sentence).append(" ");
-                            count++;
-                        }
-                        explanation = sb.toString().trim();
-                        break;
-                    }
-                }
-            }
-            // Fallback: use Derivation text summary if no specific section found
-            if ("Keine Begründung verfügbar".equals(explanation) && analysis.getDerivationText() != null) {
-                // Try to pick bias
-                String derivation = analysis.getDerivationText();
-                if (derivation.contains("Finaler Bias:")) {
-                    int start = derivation.indexOf("Finaler Bias:");
-                    int end = derivation.indexOf("\n", start);
-                    if (end == -1)
-                        end = derivation.length();
-                    explanation = derivation.substring(start, end).trim();
-                }
-            }
-
-            ForecastData fd = new ForecastData(
+            return new AssetSnapshot(
                     assetName,
                     assetDir.getAbsolutePath(),
                     analysis.getDate(),
@@ -139,55 +307,136 @@ public class SentimentCrawler {
                     lastSignal,
                     analysis.getCsvSignal(), // FXSSI raw signal
                     sentiment,
+                    analysis.getFxssiLongPercent(),
+                    analysis.getFxssiShortPercent(),
                     analysis.getVix(),
+                    analysis.getVixValue(),
                     analysis.getConsensusNumbers(),
                     indicators,
-                    analysis.getUpProbability(),
-                    analysis.getSidewaysProbability(),
-                    analysis.getDownProbability(),
-                    explanation);
-
-            results.add(fd);
+                    analysis.getRsiValue(),
+                    analysis.getAtrValue(),
+                    analysis.getUpPercent(),
+                    analysis.getSidewaysPercent(),
+                    analysis.getDownPercent(),
+                    analysis.getExplanation());
 
         } catch (IOException e) {
-            System.err.println("Error reading " + newestFile.getName());
+            System.err.println("Error reading " + newestFile.file.getName());
+            return null;
         }
     }
 
-    public List<HistoryData> loadHistory(String assetPath) {
-        List<HistoryData> history = new ArrayList<>();
+    public List<HistoryEntry> loadHistory(String assetPath) {
+        List<HistoryEntry> entries = new ArrayList<>();
         File assetDir = new File(assetPath);
 
         if (!assetDir.exists() || !assetDir.isDirectory())
-            return history;
-
-        File[] textFiles = assetDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".txt"));
-        if (textFiles == null)
-            return history;
-
-        Arrays.sort(textFiles, Comparator.comparingLong(File::lastModified).reversed());
-
-        for (File file : textFiles) {
+            return entries;
+
+        // Reports parsed here, stored with one write at the end
+        HistoryStore.Batch parsed = history != null ? new HistoryStore.Batch() : null;
+        for (ReportFile file : ReportScanner.listReports(assetDir)) {
+            // Reports seen before come from the history store without parsing
+            HistoryEntry stored = history != null ? history.get(assetDir, file) : null;
+            if (stored != null) {
+                entries.add(stored);
+                continue;
+            }
             try {
-                String content = Files.readString(file.toPath());
-                FullAnalysisData fad = parser.parseFullAnalysis(content);
+                FullAnalysisData fad = parseFile(file);
                 String sig = determineSignal(fad);
+                if (parsed != null)
+                    parsed.add(file, fad, sig);
 
-                history.add(new HistoryData(
+                entries.add(new HistoryEntry(
                         fad.getDate(),
-                        fad.getUpProbability(),
-                        fad.getSidewaysProbability(),
-                        fad.getDownProbability(),
+                        fad.getUpPercent(),
+                        fad.getSidewaysPercent(),
+                        fad.getDownPercent(),
                         sig,
-                        file.getAbsolutePath()));
+                        file.path(),
+                        fad.getFxssiLongPercent(),
+                        fad.getFxssiShortPercent(),
+                        fad.getVixValue(),
+                        fad.getRsiValue(),
+                        fad.getAtrValue()));
             } catch (IOException e) {
                 e.printStackTrace();
             }
         }
-        return history;
+
+        if (parsed != null)
+            history.appendAll(assetDir, parsed);
+        if (index != null)
+            index.save();
+        return entries;
+    }
+
+    /**
+     * Full analysis of a single report (detail window). Served from the
+     * analysis cache or the parse index if the file did not change.
+     */
+    public FullAnalysisData loadAnalysis(File file) throws IOException {
+        return parseFile(new ReportFile(file, file.length(), file.lastModified()));
+    }
+
+    /**
+     * Parses a report file, or takes the result from the parse index if the
+     * file did not change since it was indexed.
+     */
+    private FullAnalysisData parseFile(ReportFile file) throws IOException {
+        if (cache != null) {
+            FullAnalysisData cached = cache.get(file.path(), file.size, file.lastModified);
+            if (cached != null)
+                return cached;
+        }
+        if (index != null) {
+            FullAnalysisData indexed = index.get(file.file, file.size, file.lastModified);
+            if (indexed != null)
+                return indexed;
+        }
+
+        // Pooled per-thread buffer, the content is not kept (the detail and
+        // source windows read the file again when opened)
+        CharSequence content = ReportReader.get().read(file.file);
+        FullAnalysisData analysis = parser.parseFullAnalysis(content, file.path());
+        if (index != null)
+            index.put(file.file, file.size, file.lastModified, content, analysis);
+        if (cache != null)
+            cache.put(file.path(), file.size, file.lastModified, content.length(), analysis);
+        return analysis;
     }
 
-    private String determineSignal(FullAnalysisData analysis) {
+    /**
+     * Date and signal of an older report for the last-signal lookup. Served
+     * from the signal cache or the parse index if possible, otherwise only
+     * the head of the file is parsed (full parse if the head is not enough).
+     */
+    private SignalEntry probeSignal(ReportFile file) throws IOException {
+        SignalEntry cached = signalCache.get(file.path());
+        if (cached != null && cached.size == file.size && cached.lastModified == file.lastModified)
+            return cached;
+
+        FullAnalysisData analysis = index != null ? index.get(file.file, file.size, file.lastModified) : null;
+        if (analysis == null) {
+            ReportReader reader = ReportReader.get();
+            CharSequence head = reader.read(file.file, HEADER_PROBE_BYTES);
+            analysis = parser.parseHeader(head, !reader.isTruncated(), file.path());
+            if (analysis == null)
+                analysis = parseFile(file);
+        }
+
+        SignalEntry entry = new SignalEntry(file.size, file.lastModified, ReportDates.parseDate(analysis.getDate()),
+                determineSignal(analysis));
+        signalCache.put(file.path(), entry);
+        return entry;
+    }
+
+    private void cacheSignal(ReportFile file, LocalDate date, String signal) {
+        signalCache.put(file.path(), new SignalEntry(file.size, file.lastModified, date, signal));
+    }
+
+    public String determineSignal(FullAnalysisData analysis) {
         String signal = "NEUTRAL";
 
         // 1. Check Panic
@@ -222,9 +471,9 @@ public class SentimentCrawler {
 
         // Fallback to probabilities if no clear CSV signal found
         if (!signalFound) {
-            int up = parsePercentage(analysis.getUpProbability());
-            int down = parsePercentage(analysis.getDownProbability());
-            int side = parsePercentage(analysis.getSidewaysProbability());
+            int up = analysis.getUpPercent();
+            int down = analysis.getDownPercent();
+            int side = analysis.getSidewaysPercent();
 
             if (up > side && up > down)
                 signal = "STEIGT";
@@ -236,11 +485,119 @@ public class SentimentCrawler {
         return signal;
     }
 
-    private int parsePercentage(String s) {
-        try {
-            return Integer.parseInt(s.replace("%", "").trim());
-        } catch (Exception e) {
-            return 0;
+    private static final class SignalEntry {
+        final long size;
+        final long lastModified;
+        final LocalDate date;
+        final String signal;
+
+        SignalEntry(long size, long lastModified, LocalDate date, String signal) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.date = date;
+            this.signal = signal;
+        }
+    }
+
+    /**
+     * Hands finished folders to the monitor in discovery order, also when
+     * the parallel crawl finishes them out of order.
+     */
+    private static final class OrderedProgress {
+        final CrawlMonitor monitor;
+        private final AssetSnapshot[] snapshots;
+        private final int[] fileCounts;
+        private final boolean[] finished;
+        private int next;
+        private int filesDone;
+
+        OrderedProgress(CrawlMonitor monitor, int folders) {
+            this.monitor = monitor;
+            this.snapshots = new AssetSnapshot[folders];
+            this.fileCounts = new int[folders];
+            this.finished = new boolean[folders];
+        }
+
+        synchronized void done(int position, AssetSnapshot snapshot, int files) {
+            snapshots[position] = snapshot;
+            fileCounts[position] = files;
+            finished[position] = true;
+            while (next < finished.length && finished[next]) {
+                filesDone += fileCounts[next];
+                monitor.folderDone(snapshots[next], next + 1, finished.length, filesDone);
+                snapshots[next] = null;
+                next++;
+            }
+        }
+    }
+
+    private final class FolderSpliterator extends Spliterators.AbstractSpliterator<AssetSnapshot> {
+        private final List<AssetFolder> folders;
+        private final ForkJoinPool pool; // null = parse on the pulling thread
+        private final ArrayDeque<Future<AssetSnapshot>> ahead = new ArrayDeque<>();
+        private int nextFolder;
+        private boolean closed;
+
+        FolderSpliterator(List<AssetFolder> folders) {
+            super(folders.size(), Spliterator.ORDERED | Spliterator.NONNULL);
+            this.folders = folders;
+            this.pool = parallelism > 1 && folders.size() > 1
+                    ? new ForkJoinPool(Math.min(parallelism, folders.size()))
+                    : null;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super AssetSnapshot> action) {
+            while (!closed) {
+                AssetSnapshot next;
+                if (pool == null) {
+                    if (nextFolder >= folders.size())
+                        break;
+                    AssetFolder folder = folders.get(nextFolder++);
+                    next = processAssetFolder(folder.dir, folder.reports);
+                } else {
+                    while (nextFolder < folders.size() && ahead.size() < parallelism * 2) {
+                        AssetFolder folder = folders.get(nextFolder++);
+                        ahead.add(pool.submit(() -> processAssetFolder(folder.dir, folder.reports)));
+                    }
+                    Future<AssetSnapshot> head = ahead.poll();
+                    if (head == null)
+                        break;
+                    next = await(head);
+                }
+                if (next != null) {
+                    action.accept(next);
+                    return true;
+                }
+            }
+            close();
+            return false;
+        }
+
+        private AssetSnapshot await(Future<AssetSnapshot> future) {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                System.err.println("Error processing asset folder: " + e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+            return null;
+        }
+
+        void close() {
+            if (closed)
+                return;
+            closed = true;
+            if (pool != null) {
+                for (Future<AssetSnapshot> future : ahead) {
+                    future.cancel(false);
+                }
+                pool.shutdown();
+            }
+            if (index != null)
+                index.save();
         }
     }
 }
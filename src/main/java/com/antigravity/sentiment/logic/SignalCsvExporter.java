@@ -0,0 +1,168 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.AssetSnapshot;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collection;
+
+/**
+ * Writes last_known_signals.csv for the trading side: one line per asset
+ * with the signal mapped to BUY / SELL / NEUTRAL / STOP. Used by the GUI
+ * export and the headless {@code SentimentCli}; no JavaFX.
+ *
+ * The export folder is usually synced to the robots by a cloud drive, so
+ * the file is only rewritten if its content changes, and then via a temp
+ * file and an atomic rename: readers see either the old or the new file,
+ * never a half-written one.
+ */
+public final class SignalCsvExporter {
+
+    public static final String FILE_NAME = "last_known_signals.csv";
+
+    private static final String HEADER = "Waehrungspaar;Letztes_Signal\n";
+
+    private SignalCsvExporter() {
+    }
+
+    /**
+     * Writes the CSV for the given rows, unless the file already has exactly
+     * this content.
+     *
+     * @param file target, usually {@code new File(exportDir, FILE_NAME)}
+     * @return true if written, false if unchanged
+     */
+    public static boolean write(Collection<AssetSnapshot> rows, File file) throws IOException {
+        Path target = file.toPath();
+
+        // Compare hashes first, so an unchanged export touches nothing in the folder
+        Fnv expected = new Fnv();
+        expected.add(HEADER);
+        for (AssetSnapshot row : rows) {
+            expected.add(line(row));
+        }
+        if (expected.equals(hashOf(target)))
+            return false;
+
+        Path dir = target.toAbsolutePath().getParent();
+        // Unique per export: a GUI export and the cron CLI may write at the same time
+        Path tmp = Files.createTempFile(dir, "." + target.getFileName(), ".tmp");
+        try {
+            readableByOthers(tmp);
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+                out.write(HEADER);
+                for (AssetSnapshot row : rows) {
+                    out.write(line(row));
+                }
+                out.flush();
+                channel.force(false);
+            }
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return true;
+    }
+
+    /**
+     * Temp files are owner-only on POSIX; the robots may read the CSV as
+     * another user, as before.
+     */
+    private static void readableByOthers(Path file) throws IOException {
+        if (Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class))
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r--r--"));
+    }
+
+    private static String line(AssetSnapshot row) {
+        return csvAsset(row.asset()) + ";" + csvSignal(row.signal()) + "\n";
+    }
+
+    /**
+     * Hash of the current file, null if there is none.
+     */
+    private static Fnv hashOf(Path file) throws IOException {
+        Fnv hash = new Fnv();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                hash.add(buffer, n);
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        return hash;
+    }
+
+    /** FNV-1a over the UTF-8 bytes, plus the length */
+    private static final class Fnv {
+        private long hash = 0xcbf29ce484222325L;
+        private long length;
+
+        void add(String text) {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            add(bytes, bytes.length);
+        }
+
+        void add(byte[] bytes, int count) {
+            for (int i = 0; i < count; i++) {
+                hash ^= bytes[i] & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            length += count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Fnv && ((Fnv) o).hash == hash && ((Fnv) o).length == length;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash);
+        }
+    }
+
+    /**
+     * Signal as in the CSV, "PANIC" becomes "STOP" as in the table.
+     */
+    static String csvSignal(String signal) {
+        String sig = signal.toUpperCase();
+        if (sig.equals("STEIGT"))
+            return "BUY";
+        if (sig.equals("FAELLT"))
+            return "SELL";
+        if (sig.equals("PANIC"))
+            return "STOP"; // Match UI display
+        return "NEUTRAL";
+    }
+
+    /**
+     * Broker names for the metals: XAUUSD -> GOLD, XAGUSD -> SILVER.
+     */
+    static String csvAsset(String asset) {
+        if (asset.equalsIgnoreCase("XAUUSD"))
+            return "GOLD";
+        if (asset.equalsIgnoreCase("XAGUSD"))
+            return "SILVER";
+        return asset;
+    }
+}
@@ -0,0 +1,300 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.AssetSnapshot;
+import com.antigravity.sentiment.model.HistoryEntry;
+import com.antigravity.sentiment.model.ReportValues;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the crawl result in memory and serves it as JSON on localhost:
+ * <ul>
+ * <li>GET /signals - one object per asset (signal, CSV signal, probabilities)</li>
+ * <li>GET /history/{asset} - all reports of one asset, newest first</li>
+ * </ul>
+ * Responses carry an ETag (hash of the body); a poller that sends it back
+ * in If-None-Match gets an empty 304 until something changed. Bodies are
+ * rendered once per change, not per request.
+ *
+ * {@link #refreshAssetFolder(File)} is meant as {@link ReportWatcher}
+ * listener, so only changed asset folders are parsed again.
+ */
+public class SignalServer implements Closeable {
+
+    private static final String JSON = "application/json; charset=utf-8";
+
+    private final SentimentCrawler crawler;
+    private final String rootPath;
+
+    // asset path -> newest snapshot, in crawl order (new folders at the end)
+    private final Map<String, AssetSnapshot> snapshots = new LinkedHashMap<>();
+    private Body signalsBody; // null = render on the next request
+    // asset path -> rendered history
+    private final Map<String, Body> historyBodies = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /** Rendered response body with its ETag */
+    private static final class Body {
+        final byte[] bytes;
+        final String etag;
+
+        Body(String json) {
+            bytes = json.getBytes(StandardCharsets.UTF_8);
+            long h = 0xcbf29ce484222325L;
+            for (byte b : bytes) {
+                h ^= b & 0xff;
+                h *= 0x100000001b3L;
+            }
+            etag = "\"" + Long.toHexString(h) + "-" + Integer.toHexString(bytes.length) + "\"";
+        }
+    }
+
+    public SignalServer(SentimentCrawler crawler, String rootPath) {
+        this.crawler = crawler;
+        this.rootPath = rootPath;
+    }
+
+    /**
+     * Crawls the whole root folder and replaces the table.
+     */
+    public void refreshAll() {
+        List<AssetSnapshot> result = crawler.crawl(rootPath);
+        synchronized (this) {
+            snapshots.clear();
+            for (AssetSnapshot snapshot : result) {
+                snapshots.put(snapshot.assetPath(), snapshot);
+            }
+            signalsBody = null;
+        }
+        historyBodies.clear();
+    }
+
+    /**
+     * Parses one asset folder again (new, modified or deleted reports).
+     */
+    public void refreshAssetFolder(File assetDir) {
+        String assetPath = assetDir.getAbsolutePath();
+        AssetSnapshot snapshot = crawler.crawlAssetFolder(assetPath);
+        synchronized (this) {
+            if (snapshot != null)
+                snapshots.put(assetPath, snapshot);
+            else
+                snapshots.remove(assetPath);
+            signalsBody = null;
+        }
+        historyBodies.remove(assetPath);
+    }
+
+    /**
+     * Starts serving on the loopback interface.
+     *
+     * @param port TCP port, 0 = any free port (see {@link #getPort()})
+     */
+    public synchronized void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "signal-server");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext("/signals", exchange -> handle(exchange, this::signals));
+        server.createContext("/history/", exchange -> handle(exchange, () -> history(exchange)));
+        server.start();
+    }
+
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Requests
+    // ---------------------------------------------------------------------
+
+    private interface BodySource {
+        /** @return the body, null for 404 */
+        Body get();
+    }
+
+    private void handle(HttpExchange exchange, BodySource source) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            boolean head = method.equals("HEAD");
+            if (!head && !method.equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            Body body = source.get();
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("ETag", body.etag);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), body.etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", JSON);
+            if (head) {
+                exchange.getResponseHeaders().set("Content-Length", Integer.toString(body.bytes.length));
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body.bytes);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error serving " + exchange.getRequestURI() + ": " + e.getMessage());
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * If-None-Match: list of ETags (weak ones compared weakly) or "*".
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null)
+            return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/"))
+                tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag))
+                return true;
+        }
+        return false;
+    }
+
+    private synchronized Body signals() {
+        if (signalsBody == null) {
+            StringBuilder sb = new StringBuilder("[");
+            for (AssetSnapshot s : snapshots.values()) {
+                if (sb.length() > 1)
+                    sb.append(",");
+                sb.append("\n{\"asset\":").append(quote(s.asset()))
+                        .append(",\"exportName\":").append(quote(SignalCsvExporter.csvAsset(s.asset())))
+                        .append(",\"date\":").append(quote(s.date()))
+                        .append(",\"signal\":").append(quote(s.signal()))
+                        .append(",\"csvSignal\":").append(quote(SignalCsvExporter.csvSignal(s.signal())))
+                        .append(",\"lastSignal\":").append(quote(s.lastSignal()))
+                        .append(",\"up\":").append(percent(s.upProb()))
+                        .append(",\"side\":").append(percent(s.sideProb()))
+                        .append(",\"down\":").append(percent(s.downProb()))
+                        .append("}");
+            }
+            signalsBody = new Body(sb.append("\n]\n").toString());
+        }
+        return signalsBody;
+    }
+
+    /**
+     * /history/{asset}: asset folder name or export name (GOLD, SILVER),
+     * case-insensitive.
+     */
+    private Body history(HttpExchange exchange) {
+        String name = URLDecoder.decode(
+                exchange.getRequestURI().getRawPath().substring("/history/".length()), StandardCharsets.UTF_8);
+        String assetPath = null;
+        synchronized (this) {
+            for (AssetSnapshot s : snapshots.values()) {
+                if (s.asset().equalsIgnoreCase(name) || SignalCsvExporter.csvAsset(s.asset()).equalsIgnoreCase(name)) {
+                    assetPath = s.assetPath();
+                    break;
+                }
+            }
+        }
+        if (assetPath == null)
+            return null;
+
+        return historyBodies.computeIfAbsent(assetPath, path -> {
+            List<HistoryEntry> history = crawler.loadHistory(path);
+            StringBuilder sb = new StringBuilder("[");
+            for (HistoryEntry e : history) {
+                if (sb.length() > 1)
+                    sb.append(",");
+                sb.append("\n{\"date\":").append(quote(e.date()))
+                        .append(",\"signal\":").append(quote(e.signal()))
+                        .append(",\"csvSignal\":").append(quote(SignalCsvExporter.csvSignal(e.signal())))
+                        .append(",\"up\":").append(percent(e.up()))
+                        .append(",\"side\":").append(percent(e.sideways()))
+                        .append(",\"down\":").append(percent(e.down()))
+                        .append(",\"file\":").append(quote(new File(e.sourceFilePath()).getName()))
+                        .append("}");
+            }
+            return new Body(sb.append("\n]\n").toString());
+        });
+    }
+
+    // ---------------------------------------------------------------------
+    // JSON
+    // ---------------------------------------------------------------------
+
+    private static String percent(int value) {
+        return value == ReportValues.MISSING ? "null" : Integer.toString(value);
+    }
+
+    static String quote(String s) {
+        if (s == null)
+            return "null";
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20)
+                        sb.append(String.format("\\u%04x", (int) c));
+                    else
+                        sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.HistoryEntry;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * History of an asset with two years of daily reports: parsed (no store)
+ * vs. first open (store is filled) vs. reopened after a restart (served
+ * from the store). All must yield identical entries, also after a report
+ * was changed.
+ */
+public class TestHistoryStore {
+
+    public static void main(String[] args) throws IOException {
+        File tempRoot = new File("temp_history_root");
+        File storeDir = new File("temp_history_store");
+        deleteDir(tempRoot);
+        deleteDir(storeDir);
+
+        File assetDir = new File(tempRoot, "EURUSD");
+        assetDir.mkdirs();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int d = 0; d < 730; d++) {
+            writeReport(new File(assetDir, "report_" + start.plusDays(d) + ".txt"), start.plusDays(d), d);
+        }
+        String assetPath = assetDir.getAbsolutePath();
+
+        List<HistoryEntry> parsed = new SentimentCrawler(1).loadHistory(assetPath);
+
+        long t0 = System.nanoTime();
+        List<HistoryEntry> filled = new SentimentCrawler(1, null, null, new HistoryStore(storeDir))
+                .loadHistory(assetPath);
+        long fillNanos = System.nanoTime() - t0;
+
+        t0 = System.nanoTime();
+        List<HistoryEntry> stored = new SentimentCrawler(1, null, null, new HistoryStore(storeDir))
+                .loadHistory(assetPath);
+        long storedNanos = System.nanoTime() - t0;
+
+        System.out.printf("Entries: %d, first open: %.1f ms, reopened: %.1f ms%n", parsed.size(), fillNanos / 1e6,
+                storedNanos / 1e6);
+        System.out.println(parsed.equals(filled) && parsed.equals(stored)
+                ? "TEST PASSED: Stored history identical to parsed history."
+                : "TEST FAILED: Stored history differs from parsed history.");
+
+        // A changed report must be parsed again, not served from the store
+        File changed = new File(assetDir, "report_" + start.plusDays(700) + ".txt");
+        writeReport(changed, start.plusDays(700), 1);
+        changed.setLastModified(changed.lastModified() + 2000);
+        List<HistoryEntry> reparsed = new SentimentCrawler(1).loadHistory(assetPath);
+        List<HistoryEntry> restored = new SentimentCrawler(1, null, null, new HistoryStore(storeDir))
+                .loadHistory(assetPath);
+        System.out.println(reparsed.equals(restored) && !reparsed.equals(parsed)
+                ? "TEST PASSED: Changed report re-parsed."
+                : "TEST FAILED: Changed report served from the store.");
+
+        deleteDir(tempRoot);
+        deleteDir(storeDir);
+    }
+
+    private static void writeReport(File file, LocalDate date, int n) throws IOException {
+        String content = "### SECTION_0_DATEN_BASIS\n" +
+                "Ratio (Long/Short): " + (40 + n % 20) + "% / " + (60 - n % 20) + "%\n" +
+                "VIX Index: " + (12 + n % 9) + ".5\n" +
+                "RSI (14): " + (30 + n % 40) + ".25\n" +
+                "### SECTION_1_RISIKO_PROFIL\n" +
+                "Datum: " + date + "\n" +
+                "Wahrscheinlichkeit Range/Reversion: " + (50 + n % 30) + "%\n" +
+                "Wahrscheinlichkeit Trend-Start: " + (50 - n % 30) + "%\n" +
+                "### SECTION_2_LOGISCHE_HERLEITUNG\n" +
+                "Ergebnis Bias: NEUTRAL\n" +
+                "### SECTION_3_ROBOTER_STEUERUNG\n" +
+                "CSV_SIGNAL: " + (n % 3 == 0 ? "BUY" : n % 3 == 1 ? "SELL" : "NEUTRAL") + "\n" +
+                "### SECTION_4_DETAILLIERTE_BEGRUENDUNG\n" +
+                "1) Begründung des CSV_SIGNALS\n" +
+                "Erster Satz. Zweiter Satz.\n";
+        Files.writeString(file.toPath(), content);
+    }
+
+    private static void deleteDir(File file) {
+        File[] contents = file.listFiles();
+        if (contents != null) {
+            for (File f : contents) {
+                deleteDir(f);
+            }
+        }
+        file.delete();
+    }
+}
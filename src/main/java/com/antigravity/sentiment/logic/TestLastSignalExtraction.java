@@ -1,6 +1,6 @@
 package com.antigravity.sentiment.logic;
 
-import com.antigravity.sentiment.model.ForecastData;
+import com.antigravity.sentiment.model.AssetSnapshot;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -59,15 +59,15 @@ public class TestLastSignalExtraction {
 
         // Test Crawler
         SentimentCrawler crawler = new SentimentCrawler();
-        List<ForecastData> results = crawler.crawl(tempRoot.getAbsolutePath());
+        List<AssetSnapshot> results = crawler.crawl(tempRoot.getAbsolutePath());
 
         if (results.size() > 0) {
-            ForecastData data = results.get(0);
-            System.out.println("Asset: " + data.getAsset());
-            System.out.println("Current Signal: " + data.getSignal());
-            System.out.println("Last Signal Field: " + data.getLastSignal());
+            AssetSnapshot data = results.get(0);
+            System.out.println("Asset: " + data.asset());
+            System.out.println("Current Signal: " + data.signal());
+            System.out.println("Last Signal Field: " + data.lastSignal());
 
-            if (data.getLastSignal().contains("2026-01-19") && data.getLastSignal().contains("STEIGT")) {
+            if (data.lastSignal().contains("2026-01-19") && data.lastSignal().contains("STEIGT")) {
                 System.out.println("TEST PASSED: Last signal correctly identified as STEIGT (BUY) from 2026-01-19.");
             } else {
                 System.out.println("TEST FAILED: Last signal expected to contain 2026-01-19 and STEIGT.");
@@ -0,0 +1,83 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.AssetSnapshot;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Throughput comparison: serial crawl vs. parallel crawl on a generated tree.
+ * Usage: TestParallelCrawl [assets] [filesPerAsset] [parallelism]
+ */
+public class TestParallelCrawl {
+
+    public static void main(String[] args) throws IOException {
+        int assets = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int filesPerAsset = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2])
+                : Runtime.getRuntime().availableProcessors();
+
+        File tempRoot = new File("temp_parallel_root");
+        if (tempRoot.exists())
+            deleteDir(tempRoot);
+        new ReportCorpusGenerator(42L).generate(tempRoot, assets, filesPerAsset, 4096);
+        System.out.println("Generated " + assets + " assets x " + filesPerAsset + " files in "
+                + tempRoot.getAbsolutePath());
+
+        SentimentCrawler serial = new SentimentCrawler(1);
+        SentimentCrawler parallel = new SentimentCrawler(parallelism);
+
+        // Warm-up (JIT, file system cache)
+        serial.crawl(tempRoot.getAbsolutePath());
+        parallel.crawl(tempRoot.getAbsolutePath());
+
+        int runs = 5;
+        long serialNanos = 0;
+        long parallelNanos = 0;
+        List<AssetSnapshot> serialResult = null;
+        List<AssetSnapshot> parallelResult = null;
+
+        for (int i = 0; i < runs; i++) {
+            long t0 = System.nanoTime();
+            serialResult = serial.crawl(tempRoot.getAbsolutePath());
+            serialNanos += System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            parallelResult = parallel.crawl(tempRoot.getAbsolutePath());
+            parallelNanos += System.nanoTime() - t0;
+        }
+
+        double serialMs = serialNanos / 1_000_000.0 / runs;
+        double parallelMs = parallelNanos / 1_000_000.0 / runs;
+        System.out.printf("Serial   (1 thread):  %8.1f ms  %8.0f folders/s%n", serialMs,
+                serialResult.size() / (serialMs / 1000.0));
+        System.out.printf("Parallel (%d threads): %8.1f ms  %8.0f folders/s%n", parallelism, parallelMs,
+                parallelResult.size() / (parallelMs / 1000.0));
+        System.out.printf("Speedup: %.2fx%n", serialMs / parallelMs);
+
+        boolean sameOrder = serialResult.equals(parallelResult);
+        System.out.println(sameOrder ? "TEST PASSED: Parallel result identical to serial result."
+                : "TEST FAILED: Parallel result differs from serial result.");
+
+        List<AssetSnapshot> streamed;
+        try (Stream<AssetSnapshot> stream = parallel.stream(tempRoot.getAbsolutePath())) {
+            streamed = stream.collect(Collectors.toList());
+        }
+        System.out.println(serialResult.equals(streamed) ? "TEST PASSED: Streamed result identical to serial result."
+                : "TEST FAILED: Streamed result differs from serial result.");
+
+        deleteDir(tempRoot);
+    }
+
+    private static void deleteDir(File file) {
+        File[] contents = file.listFiles();
+        if (contents != null) {
+            for (File f : contents) {
+                deleteDir(f);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,75 @@
+package com.antigravity.sentiment.logic;
+
+import com.antigravity.sentiment.model.AssetSnapshot;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Cold crawl (empty index) vs. warm crawl (index loaded from disk, as after
+ * a restart). Both must yield identical rows.
+ */
+public class TestParseIndex {
+
+    public static void main(String[] args) throws IOException {
+        File tempRoot = new File("temp_index_root");
+        File indexFile = new File("temp_parse_index.bin");
+        if (tempRoot.exists())
+            deleteDir(tempRoot);
+        indexFile.delete();
+
+        for (int a = 0; a < 50; a++) {
+            File assetDir = new File(tempRoot, "ASSET" + a);
+            assetDir.mkdirs();
+            for (int f = 0; f < 10; f++) {
+                String content = "### SECTION_0_DATEN_BASIS\n" +
+                        "Ratio (Long/Short): 45% / 55%\n" +
+                        "### SECTION_1_RISIKO_PROFIL\n" +
+                        "Datum: 2026-01-" + (20 - f) + "\n" +
+                        "Wahrscheinlichkeit Range/Reversion: 60%\n" +
+                        "Wahrscheinlichkeit Trend-Start: 40%\n" +
+                        "### SECTION_2_LOGISCHE_HERLEITUNG\n" +
+                        "Ergebnis Bias: NEUTRAL\n" +
+                        "### SECTION_3_ROBOTER_STEUERUNG\n" +
+                        "CSV_SIGNAL: " + (f % 2 == 0 ? "BUY" : "SELL") + "\n" +
+                        "### SECTION_4_DETAILLIERTE_BEGRUENDUNG\n" +
+                        "1) Begründung des CSV_SIGNALS\n" +
+                        "Erster Satz. Zweiter Satz. Dritter Satz. Vierter Satz.\n";
+                File file = new File(assetDir, "report_" + f + ".txt");
+                Files.writeString(file.toPath(), content);
+                file.setLastModified(System.currentTimeMillis() - f * 86400000L);
+            }
+        }
+
+        long t0 = System.nanoTime();
+        List<AssetSnapshot> cold = new SentimentCrawler(1, new ParseIndex(indexFile, false))
+                .crawl(tempRoot.getAbsolutePath());
+        long coldNanos = System.nanoTime() - t0;
+
+        t0 = System.nanoTime();
+        ParseIndex reloaded = new ParseIndex(indexFile, false);
+        List<AssetSnapshot> warm = new SentimentCrawler(1, reloaded).crawl(tempRoot.getAbsolutePath());
+        long warmNanos = System.nanoTime() - t0;
+
+        System.out.println("Index entries: " + reloaded.size() + ", file size: " + indexFile.length() + " bytes");
+        System.out.printf("Cold crawl: %.1f ms, warm crawl: %.1f ms%n", coldNanos / 1e6, warmNanos / 1e6);
+
+        boolean same = cold.equals(warm);
+        System.out.println(same ? "TEST PASSED: Indexed crawl identical to parsed crawl."
+                : "TEST FAILED: Indexed crawl differs from parsed crawl.");
+
+        deleteDir(tempRoot);
+        indexFile.delete();
+    }
+
+    private static void deleteDir(File file) {
+        File[] contents = file.listFiles();
+        if (contents != null) {
+            for (File f : contents) {
+                deleteDir(f);
+            }
+        }
+        file.delete();
+    }
+}
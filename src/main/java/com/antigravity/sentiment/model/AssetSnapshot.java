@@ -0,0 +1,36 @@
+package com.antigravity.sentiment.model;
+
+/**
+ * Crawl result for one asset folder (newest report). Plain immutable value
+ * without JavaFX, the UI wraps it in a {@link ForecastData} row.
+ *
+ * Percentages are ints ({@link ReportValues#MISSING} if not found),
+ * indicator values doubles (NaN if not found).
+ *
+ * @param signal     "STEIGT", "FAELLT", "SEITWAERTS", "PANIC", "NEUTRAL"
+ * @param lastSignal signal of the last report dated before this one
+ * @param sentiment  "42% L / 58% S"
+ * @param vix        VIX text as in the report, e.g. "14–15"
+ * @param indicators "RSI=36, ATR=0.0007"
+ */
+public record AssetSnapshot(
+        String asset,
+        String assetPath,
+        String date,
+        String signal,
+        String lastSignal,
+        String fxssiSignal,
+        String sentiment,
+        int fxssiLong,
+        int fxssiShort,
+        String vix,
+        double vixValue,
+        String consensus,
+        String indicators,
+        double rsi,
+        double atr,
+        int upProb,
+        int sideProb,
+        int downProb,
+        String explanation) {
+}
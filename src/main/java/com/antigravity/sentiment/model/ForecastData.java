@@ -3,121 +3,150 @@ package com.antigravity.sentiment.model;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 
+/**
+ * Table row for an {@link AssetSnapshot}. The JavaFX properties are only
+ * created when a column asks for them, getters read the snapshot directly.
+ */
 public class ForecastData {
-    private final StringProperty asset;
-    private final String assetPath;
-
-    // New Table Fields
-    private final StringProperty signal; // "STEIGT", "FAELLT", "SEITWAERTS", "PANIC", "NEUTRAL"
-    private final StringProperty lastSignal; // e.g. "2026-01-19: STEIGT"
-    private final StringProperty fxssiSignal; // New: Raw FXSSI Signal
-    private final StringProperty date; // Single date
-    private final StringProperty sentiment; // "42% L / 58% S"
-    private final StringProperty vix; // "15"
-    private final StringProperty consensus; // "2 von 3"
-    private final StringProperty indicators; // "RSI=36, ATR=0.0007"
-
-    // Values useful for sorting/filtering but maybe not direct display
-    private final StringProperty upProb;
-    private final StringProperty sideProb;
-    private final StringProperty downProb;
-
-    private final StringProperty explanation;
-
+    private final AssetSnapshot snapshot;
+
+    // Lazily created for the displayed columns
+    private StringProperty asset;
+    private StringProperty date;
+    private StringProperty signal;
+    private StringProperty lastSignal;
+    private StringProperty fxssiSignal;
+    private StringProperty sentiment;
+    private StringProperty vix;
+    private StringProperty consensus;
+    private StringProperty indicators;
+    private StringProperty upProb;
+    private StringProperty sideProb;
+    private StringProperty downProb;
+    private StringProperty explanation;
+
+    public ForecastData(AssetSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Row from display texts (e.g. imported signals), percentages are parsed once here.
+     */
     public ForecastData(String asset, String assetPath, String date,
             String signal, String lastSignal, String fxssiSignal, String sentiment, String vix,
             String consensus, String indicators,
             String upProb, String sideProb, String downProb, String explanation) {
-        this.asset = new SimpleStringProperty(asset);
-        this.assetPath = assetPath;
-        this.date = new SimpleStringProperty(date);
-        this.signal = new SimpleStringProperty(signal);
-        this.lastSignal = new SimpleStringProperty(lastSignal);
-        this.fxssiSignal = new SimpleStringProperty(fxssiSignal);
-        this.sentiment = new SimpleStringProperty(sentiment);
-        this.vix = new SimpleStringProperty(vix);
-        this.consensus = new SimpleStringProperty(consensus);
-        this.indicators = new SimpleStringProperty(indicators);
-        this.upProb = new SimpleStringProperty(upProb);
-        this.sideProb = new SimpleStringProperty(sideProb);
-        this.downProb = new SimpleStringProperty(downProb);
-        this.explanation = new SimpleStringProperty(explanation);
+        this(new AssetSnapshot(asset, assetPath, date, signal, lastSignal, fxssiSignal, sentiment,
+                ReportValues.MISSING, ReportValues.MISSING, vix, ReportValues.parseLeadingNumber(vix),
+                consensus, indicators, Double.NaN, Double.NaN,
+                ReportValues.parsePercent(upProb), ReportValues.parsePercent(sideProb),
+                ReportValues.parsePercent(downProb), explanation));
     }
 
-    // Getters for properties
-    public StringProperty assetProperty() {
-        return asset;
+    public AssetSnapshot getSnapshot() {
+        return snapshot;
     }
 
     public String getAssetPath() {
-        return assetPath;
+        return snapshot.assetPath();
+    }
+
+    // Getters for properties
+    public StringProperty assetProperty() {
+        if (asset == null)
+            asset = new SimpleStringProperty(snapshot.asset());
+        return asset;
     }
 
     public StringProperty dateProperty() {
+        if (date == null)
+            date = new SimpleStringProperty(snapshot.date());
         return date;
     }
 
     public StringProperty signalProperty() {
+        if (signal == null)
+            signal = new SimpleStringProperty(snapshot.signal());
         return signal;
     }
 
     public StringProperty lastSignalProperty() {
+        if (lastSignal == null)
+            lastSignal = new SimpleStringProperty(snapshot.lastSignal());
         return lastSignal;
     }
 
     public StringProperty fxssiSignalProperty() {
+        if (fxssiSignal == null)
+            fxssiSignal = new SimpleStringProperty(snapshot.fxssiSignal());
         return fxssiSignal;
     }
 
     public StringProperty sentimentProperty() {
+        if (sentiment == null)
+            sentiment = new SimpleStringProperty(snapshot.sentiment());
         return sentiment;
     }
 
     public StringProperty vixProperty() {
+        if (vix == null)
+            vix = new SimpleStringProperty(snapshot.vix());
         return vix;
     }
 
     public StringProperty consensusProperty() {
+        if (consensus == null)
+            consensus = new SimpleStringProperty(snapshot.consensus());
         return consensus;
     }
 
     public StringProperty indicatorsProperty() {
+        if (indicators == null)
+            indicators = new SimpleStringProperty(snapshot.indicators());
         return indicators;
     }
 
     public StringProperty upProbProperty() {
+        if (upProb == null)
+            upProb = new SimpleStringProperty(ReportValues.formatPercent(snapshot.upProb()));
         return upProb;
     }
 
     public StringProperty sideProbProperty() {
+        if (sideProb == null)
+            sideProb = new SimpleStringProperty(ReportValues.formatPercent(snapshot.sideProb()));
         return sideProb;
     }
 
     public StringProperty downProbProperty() {
+        if (downProb == null)
+            downProb = new SimpleStringProperty(ReportValues.formatPercent(snapshot.downProb()));
         return downProb;
     }
 
+    public StringProperty explanationProperty() {
+        if (explanation == null)
+            explanation = new SimpleStringProperty(snapshot.explanation());
+        return explanation;
+    }
+
     public String getAsset() {
-        return asset.get();
+        return snapshot.asset();
     }
 
     public String getSignal() {
-        return signal.get();
+        return snapshot.signal();
     }
 
     public String getLastSignal() {
-        return lastSignal.get();
+        return snapshot.lastSignal();
     }
 
     public String getFxssiSignal() {
-        return fxssiSignal.get();
-    }
-
-    public StringProperty explanationProperty() {
-        return explanation;
+        return snapshot.fxssiSignal();
     }
 
     public String getExplanation() {
-        return explanation.get();
+        return snapshot.explanation();
     }
 }
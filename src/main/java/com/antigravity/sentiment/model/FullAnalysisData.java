@@ -1,78 +1,127 @@
 package com.antigravity.sentiment.model;
 
+import java.lang.ref.SoftReference;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Represents the complete analysis data from a forecast file.
  * updated for new properties (FXSSI, Derivation, Rationales).
+ *
+ * The long texts (derivation, calculation, consensus, rationales, raw
+ * content) are kept in a separate {@link Details} object. After
+ * {@link #releaseDetails(Supplier)} they are only softly reachable and are
+ * loaded again from the source file when a getter needs them.
  */
 public class FullAnalysisData {
 
     // SECTION 0: Data Basis
     private String date;
-    private String fxssiLong; // e.g. "41%"
-    private String fxssiShort; // e.g. "59%"
+    private int fxssiLong; // percent, ReportValues.MISSING if not found
+    private int fxssiShort;
     private String highImpactEvents; // Text summary
 
     // SECTION 1: Profile (Probabilities)
-    private String upProbability;
-    private String sidewaysProbability;
-    private String downProbability;
+    private int upProbability; // percent
+    private int sidewaysProbability;
+    private int downProbability;
 
     // SECTION 2 & 3: Derivation / Robot Control
     private String instrument;
     private String bias; // from result bias
     private String csvSignal;
     private String riskLevel;
-    private String derivationText; // Combined text for display
-
-    // Calculation explanation
-    private String probabilityCalculation;
-
-    // Analyst Consensus
-    private String analystConsensus;
 
     // New Table Columns
-    private String vix;
+    private String vix; // text as in the report, e.g. "14–15"
     private String rsi;
     private String atr;
+    private double vixValue; // first number of the text, NaN if none
+    private double rsiValue;
+    private double atrValue;
     private String consensusNumbers;
     private String panicStatus;
 
-    // SECTION 4: Rationales
-    // Map title -> content
-    private Map<String, String> rationales;
+    // First sentences of the CSV_SIGNAL rationale (table column)
+    private String explanation;
 
-    // Legacy / Fallback
-    private String rawContent;
+    // Long texts, see Details (created on first use)
+    private Details details;
+    private SoftReference<Details> softDetails;
+    private Supplier<FullAnalysisData> detailLoader;
+
+    private static final class Details {
+        private String derivationText = ""; // Combined text for display
+        // Calculation explanation
+        private String probabilityCalculation = "Keine Details verfügbar.";
+        // Analyst Consensus
+        private String analystConsensus = "Kein Analysten-Konsens gefunden.";
+        // SECTION 4: Rationales
+        // Map title -> content
+        private Map<String, String> rationales = new LinkedHashMap<>();
+        // Legacy / Fallback
+        private String rawContent = "";
+    }
 
     public FullAnalysisData() {
         this.date = "";
-        this.fxssiLong = "50%";
-        this.fxssiShort = "50%";
+        this.fxssiLong = ReportValues.MISSING;
+        this.fxssiShort = ReportValues.MISSING;
         this.highImpactEvents = "";
 
-        this.upProbability = "0%";
-        this.sidewaysProbability = "0%";
-        this.downProbability = "0%";
+        this.upProbability = 0;
+        this.sidewaysProbability = 0;
+        this.downProbability = 0;
 
         this.instrument = "";
         this.bias = "NEUTRAL";
         this.csvSignal = "NEUTRAL";
         this.riskLevel = "MEDIUM";
-        this.derivationText = "";
-        this.probabilityCalculation = "Keine Details verfügbar.";
-        this.analystConsensus = "Kein Analysten-Konsens gefunden.";
 
         this.vix = "-";
         this.rsi = "-";
         this.atr = "-";
+        this.vixValue = Double.NaN;
+        this.rsiValue = Double.NaN;
+        this.atrValue = Double.NaN;
         this.consensusNumbers = "-";
         this.panicStatus = "Sicher"; // Default
-
-        this.rationales = new LinkedHashMap<>();
-        this.rawContent = "";
+        this.explanation = "Keine Begründung verfügbar";
+    }
+
+    /**
+     * Keeps the long texts only softly reachable. Once the GC has cleared
+     * them, the next getter loads them via the loader (typically a re-parse
+     * of the source file). A loader result of null yields the defaults.
+     */
+    public synchronized void releaseDetails(Supplier<FullAnalysisData> loader) {
+        if (details != null)
+            softDetails = new SoftReference<>(details);
+        details = null;
+        detailLoader = loader;
+    }
+
+    private synchronized Details details() {
+        if (details != null)
+            return details;
+        if (detailLoader == null) {
+            details = new Details();
+            return details;
+        }
+        Details d = softDetails != null ? softDetails.get() : null;
+        if (d == null) {
+            FullAnalysisData loaded = detailLoader != null ? detailLoader.get() : null;
+            d = loaded != null ? loaded.details() : new Details();
+            softDetails = new SoftReference<>(d);
+        }
+        return d;
+    }
+
+    // Changed texts must not get lost when the soft reference is cleared
+    private synchronized Details editableDetails() {
+        details = details();
+        return details;
     }
 
     // Getters and Setters
@@ -85,19 +134,33 @@ public class FullAnalysisData {
         this.date = date;
     }
 
+    /**
+     * Display text, "50%" if not found in the report.
+     */
     public String getFxssiLong() {
+        return fxssiLong == ReportValues.MISSING ? "50%" : fxssiLong + "%";
+    }
+
+    public int getFxssiLongPercent() {
         return fxssiLong;
     }
 
-    public void setFxssiLong(String fxssiLong) {
+    public void setFxssiLongPercent(int fxssiLong) {
         this.fxssiLong = fxssiLong;
     }
 
+    /**
+     * Display text, "50%" if not found in the report.
+     */
     public String getFxssiShort() {
+        return fxssiShort == ReportValues.MISSING ? "50%" : fxssiShort + "%";
+    }
+
+    public int getFxssiShortPercent() {
         return fxssiShort;
     }
 
-    public void setFxssiShort(String fxssiShort) {
+    public void setFxssiShortPercent(int fxssiShort) {
         this.fxssiShort = fxssiShort;
     }
 
@@ -110,26 +173,38 @@ public class FullAnalysisData {
     }
 
     public String getUpProbability() {
+        return ReportValues.formatPercent(upProbability);
+    }
+
+    public int getUpPercent() {
         return upProbability;
     }
 
-    public void setUpProbability(String p) {
+    public void setUpPercent(int p) {
         this.upProbability = p;
     }
 
     public String getSidewaysProbability() {
+        return ReportValues.formatPercent(sidewaysProbability);
+    }
+
+    public int getSidewaysPercent() {
         return sidewaysProbability;
     }
 
-    public void setSidewaysProbability(String p) {
+    public void setSidewaysPercent(int p) {
         this.sidewaysProbability = p;
     }
 
     public String getDownProbability() {
+        return ReportValues.formatPercent(downProbability);
+    }
+
+    public int getDownPercent() {
         return downProbability;
     }
 
-    public void setDownProbability(String p) {
+    public void setDownPercent(int p) {
         this.downProbability = p;
     }
 
@@ -166,27 +241,27 @@ public class FullAnalysisData {
     }
 
     public String getDerivationText() {
-        return derivationText;
+        return details().derivationText;
     }
 
     public void setDerivationText(String t) {
-        this.derivationText = t;
+        editableDetails().derivationText = t;
     }
 
     public String getProbabilityCalculation() {
-        return probabilityCalculation;
+        return details().probabilityCalculation;
     }
 
     public void setProbabilityCalculation(String c) {
-        this.probabilityCalculation = c;
+        editableDetails().probabilityCalculation = c;
     }
 
     public String getAnalystConsensus() {
-        return analystConsensus;
+        return details().analystConsensus;
     }
 
     public void setAnalystConsensus(String c) {
-        this.analystConsensus = c;
+        editableDetails().analystConsensus = c;
     }
 
     public String getVix() {
@@ -213,6 +288,30 @@ public class FullAnalysisData {
         this.atr = a;
     }
 
+    public double getVixValue() {
+        return vixValue;
+    }
+
+    public void setVixValue(double v) {
+        this.vixValue = v;
+    }
+
+    public double getRsiValue() {
+        return rsiValue;
+    }
+
+    public void setRsiValue(double r) {
+        this.rsiValue = r;
+    }
+
+    public double getAtrValue() {
+        return atrValue;
+    }
+
+    public void setAtrValue(double a) {
+        this.atrValue = a;
+    }
+
     public String getConsensusNumbers() {
         return consensusNumbers;
     }
@@ -229,19 +328,27 @@ public class FullAnalysisData {
         this.panicStatus = p;
     }
 
+    public String getExplanation() {
+        return explanation;
+    }
+
+    public void setExplanation(String e) {
+        this.explanation = e;
+    }
+
     public Map<String, String> getRationales() {
-        return rationales;
+        return details().rationales;
     }
 
     public void setRationales(Map<String, String> r) {
-        this.rationales = r;
+        editableDetails().rationales = r;
     }
 
     public String getRawContent() {
-        return rawContent;
+        return details().rawContent;
     }
 
     public void setRawContent(String r) {
-        this.rawContent = r;
+        editableDetails().rawContent = r;
     }
 }
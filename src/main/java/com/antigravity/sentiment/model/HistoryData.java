@@ -3,56 +3,34 @@ package com.antigravity.sentiment.model;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 
+/**
+ * History table row for a {@link HistoryEntry}. Properties are created on
+ * first access.
+ */
 public class HistoryData {
-    private final StringProperty date;
-    private final StringProperty up;
-    private final StringProperty sideways;
-    private final StringProperty down;
-    private final StringProperty signal; // New field
-    private final String sourceFilePath; // Path to the source file for detailed analysis
-
+    private final HistoryEntry entry;
     private final java.time.LocalDate sortableDate;
 
-    public HistoryData(String date, String up, String sideways, String down, String signal, String sourceFilePath) {
-        this.date = new SimpleStringProperty(date);
-        this.up = new SimpleStringProperty(up);
-        this.sideways = new SimpleStringProperty(sideways);
-        this.down = new SimpleStringProperty(down);
-        this.signal = new SimpleStringProperty(signal);
-        this.sourceFilePath = sourceFilePath;
-        this.sortableDate = parseDate(date);
+    private StringProperty date;
+    private StringProperty up;
+    private StringProperty sideways;
+    private StringProperty down;
+    private StringProperty signal;
+
+    public HistoryData(HistoryEntry entry) {
+        this.entry = entry;
+        this.sortableDate = entry.sortableDate();
     }
 
+    /**
+     * @see ReportDates#parseDate(String)
+     */
     public static java.time.LocalDate parseDate(String dateStr) {
-        if (dateStr == null || dateStr.isEmpty())
-            return java.time.LocalDate.MIN;
-        try {
-            // Try ISO format (yyyy-MM-dd) first as it is standard in new files
-            try {
-                return java.time.LocalDate.parse(dateStr);
-            } catch (Exception ignored) {
-                // Formatting specific for German short date d.M.yy
-            }
-
-            // Remove weekday prefix if present (e.g. "Mo 5.1.26" -> "5.1.26")
-            String cleanDate = dateStr;
-            int firstDigit = -1;
-            for (int i = 0; i < dateStr.length(); i++) {
-                if (Character.isDigit(dateStr.charAt(i))) {
-                    firstDigit = i;
-                    break;
-                }
-            }
-            if (firstDigit > 0) {
-                cleanDate = dateStr.substring(firstDigit);
-            }
+        return ReportDates.parseDate(dateStr);
+    }
 
-            java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("d.M.yy");
-            return java.time.LocalDate.parse(cleanDate, formatter);
-        } catch (Exception e) {
-            // Fallback for safety
-            return java.time.LocalDate.MIN;
-        }
+    public HistoryEntry getEntry() {
+        return entry;
     }
 
     public java.time.LocalDate getSortableDate() {
@@ -60,26 +38,36 @@ public class HistoryData {
     }
 
     public StringProperty dateProperty() {
+        if (date == null)
+            date = new SimpleStringProperty(entry.date());
         return date;
     }
 
     public StringProperty upProperty() {
+        if (up == null)
+            up = new SimpleStringProperty(ReportValues.formatPercent(entry.up()));
         return up;
     }
 
     public StringProperty sidewaysProperty() {
+        if (sideways == null)
+            sideways = new SimpleStringProperty(ReportValues.formatPercent(entry.sideways()));
         return sideways;
     }
 
     public StringProperty downProperty() {
+        if (down == null)
+            down = new SimpleStringProperty(ReportValues.formatPercent(entry.down()));
         return down;
     }
 
     public StringProperty signalProperty() {
+        if (signal == null)
+            signal = new SimpleStringProperty(entry.signal());
         return signal;
     }
 
     public String getSourceFilePath() {
-        return sourceFilePath;
+        return entry.sourceFilePath();
     }
 }
@@ -0,0 +1,34 @@
+package com.antigravity.sentiment.model;
+
+import java.time.LocalDate;
+
+/**
+ * One report of an asset's history. Plain immutable value without JavaFX,
+ * the history window wraps it in a {@link HistoryData} row.
+ *
+ * @param up        percent, {@link ReportValues#MISSING} if not found
+ * @param sideways  percent
+ * @param down      percent
+ * @param fxssiLong percent
+ * @param vix       NaN if not found, as rsi and atr
+ */
+public record HistoryEntry(
+        String date,
+        int up,
+        int sideways,
+        int down,
+        String signal,
+        String sourceFilePath,
+        int fxssiLong,
+        int fxssiShort,
+        double vix,
+        double rsi,
+        double atr) {
+
+    /**
+     * @return the parsed date, {@link LocalDate#MIN} if unparseable
+     */
+    public LocalDate sortableDate() {
+        return ReportDates.parseDate(date);
+    }
+}
@@ -0,0 +1,241 @@
+package com.antigravity.sentiment.model;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Date parsing for report dates: ISO "yyyy-MM-dd", German short "d.M.yy"
+ * (optionally with weekday prefix, e.g. "Mo 5.1.26"), "dd.MM.yyyy" and
+ * month names ("Montag, 5. Januar 2026", "January 9, 2026").
+ *
+ * Hand-written without exceptions or formatters, because it runs for every
+ * history row and every older report of the last-signal lookup. Results are
+ * memoized, the same few date strings come up again and again.
+ */
+public final class ReportDates {
+
+    private static final int MEMO_LIMIT = 4096;
+    private static final Map<String, LocalDate> MEMO = new ConcurrentHashMap<>();
+
+    // German and English month names and abbreviations, lower case
+    private static final Map<String, Integer> MONTHS = new HashMap<>();
+    static {
+        String[][] names = {
+                { "januar", "jänner", "jan", "january" },
+                { "februar", "feb", "february" },
+                { "märz", "maerz", "mrz", "mär", "march", "mar" },
+                { "april", "apr" },
+                { "mai", "may" },
+                { "juni", "jun", "june" },
+                { "juli", "jul", "july" },
+                { "august", "aug" },
+                { "september", "sep", "sept" },
+                { "oktober", "okt", "october", "oct" },
+                { "november", "nov" },
+                { "dezember", "dez", "december", "dec" } };
+        for (int m = 0; m < names.length; m++) {
+            for (String name : names[m]) {
+                MONTHS.put(name, m + 1);
+            }
+        }
+    }
+
+    private ReportDates() {
+    }
+
+    /**
+     * @return the date, or LocalDate.MIN if the text is not a known date format
+     */
+    public static LocalDate parseDate(String dateStr) {
+        if (dateStr == null || dateStr.isEmpty())
+            return LocalDate.MIN;
+
+        LocalDate cached = MEMO.get(dateStr);
+        if (cached != null)
+            return cached;
+
+        LocalDate date = decode(dateStr);
+        if (MEMO.size() >= MEMO_LIMIT)
+            MEMO.clear();
+        MEMO.put(dateStr, date);
+        return date;
+    }
+
+    private static LocalDate decode(String s) {
+        LocalDate date = parseIso(s);
+        if (date == null)
+            date = parseGermanShort(s);
+        if (date == null)
+            date = parseLong(s);
+        return date != null ? date : LocalDate.MIN;
+    }
+
+    /**
+     * Exactly "yyyy-MM-dd" with a valid date (as LocalDate.parse).
+     */
+    private static LocalDate parseIso(String s) {
+        if (s.length() != 10 || s.charAt(4) != '-' || s.charAt(7) != '-')
+            return null;
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 7);
+        int day = digits(s, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+            return null;
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * "d.M.yy" from the first digit on, e.g. "Mo 5.1.26". Same rules as the
+     * former {@code DateTimeFormatter.ofPattern("d.M.yy")}: day and month
+     * with any number of digits, two-digit year 20yy, a day beyond the end
+     * of the month is moved to the last day.
+     */
+    private static LocalDate parseGermanShort(String s) {
+        int i = 0;
+        while (i < s.length() && !Character.isDigit(s.charAt(i)))
+            i++;
+        if (i == s.length())
+            return null;
+
+        int dayEnd = digitRun(s, i);
+        if (dayEnd == i || dayEnd - i > 19 || dayEnd >= s.length() || s.charAt(dayEnd) != '.')
+            return null;
+        int monthStart = dayEnd + 1;
+        int monthEnd = digitRun(s, monthStart);
+        if (monthEnd == monthStart || monthEnd - monthStart > 19 || monthEnd >= s.length()
+                || s.charAt(monthEnd) != '.')
+            return null;
+        int yearStart = monthEnd + 1;
+        if (s.length() - yearStart != 2)
+            return null;
+        int year = digits(s, yearStart, yearStart + 2);
+        if (year < 0)
+            return null;
+
+        long day = value(s, i, dayEnd);
+        long month = value(s, monthStart, monthEnd);
+        if (month < 1 || month > 12 || day < 1 || day > 31)
+            return null;
+        year += 2000;
+        return LocalDate.of(year, (int) month, Math.min((int) day, lengthOfMonth(year, (int) month)));
+    }
+
+    /**
+     * Forms with a four-digit year or a month name, after an optional prefix
+     * of words ("Montag,", "Datum:"): "05.01.2026", "5. Januar 2026",
+     * "5.Januar.26", "January 9, 2026".
+     */
+    private static LocalDate parseLong(String s) {
+        int n = s.length();
+        int[] numbers = new int[3];
+        int[] numberDigits = new int[3];
+        int numberCount = 0;
+        int month = -1;
+        int monthPosition = -1; // number of numbers before the month name
+        boolean dotGaps = true; // numbers separated by exactly one '.'
+        int numberEnd = -1;
+
+        int i = 0;
+        boolean started = false;
+        while (i < n) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int end = digitRun(s, i);
+                if (numberCount == 3 || end - i > 4)
+                    return null;
+                if (numberCount > 0 && (i != numberEnd + 1 || s.charAt(numberEnd) != '.'))
+                    dotGaps = false;
+                numbers[numberCount] = digits(s, i, end);
+                numberDigits[numberCount] = end - i;
+                numberCount++;
+                started = true;
+                numberEnd = end;
+                i = end;
+            } else if (Character.isLetter(c)) {
+                int end = i;
+                while (end < n && Character.isLetter(s.charAt(end)))
+                    end++;
+                Integer m = MONTHS.get(s.substring(i, end).toLowerCase(Locale.ROOT));
+                if (m != null && month < 0) {
+                    month = m;
+                    monthPosition = numberCount;
+                    started = true;
+                } else if (started) {
+                    return null; // text after the date
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+
+        int day;
+        int year;
+        int yearDigits;
+        if (month < 0) {
+            // "dd.MM.yyyy" (two-digit years are handled by parseGermanShort)
+            if (numberCount != 3 || !dotGaps || numberDigits[2] != 4)
+                return null;
+            day = numbers[0];
+            month = numbers[1];
+            year = numbers[2];
+            yearDigits = 4;
+        } else if (numberCount == 2 && monthPosition == 1) {
+            day = numbers[0]; // 5. Januar 2026
+            year = numbers[1];
+            yearDigits = numberDigits[1];
+        } else if (numberCount == 2 && monthPosition == 0) {
+            day = numbers[0]; // January 9, 2026
+            year = numbers[1];
+            yearDigits = numberDigits[1];
+        } else {
+            return null;
+        }
+
+        if (yearDigits == 2)
+            year += 2000;
+        else if (yearDigits != 4)
+            return null;
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+            return null;
+        return LocalDate.of(year, month, day);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return Month.of(month).length(year % 4 == 0 && (year % 100 != 0 || year % 400 == 0));
+    }
+
+    private static int digitRun(String s, int from) {
+        int i = from;
+        while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9')
+            i++;
+        return i;
+    }
+
+    /**
+     * ASCII digits in [from, to) as int, -1 if any other character.
+     */
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9')
+                return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    // Value of a digit run, saturated (only compared against small ranges)
+    private static long value(String s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to && value < 1000; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,75 @@
+package com.antigravity.sentiment.model;
+
+/**
+ * Numeric report values. Percentages are carried as int with
+ * {@link #MISSING}, indicator values as double with NaN, so sorting,
+ * thresholds and charts never have to parse strings.
+ */
+public final class ReportValues {
+
+    /** Marker for a percentage that was not found in the report. */
+    public static final int MISSING = -1;
+
+    private ReportValues() {
+    }
+
+    /**
+     * "41%", " 41 % " or "41" -> 41. Returns {@link #MISSING} if the text is
+     * not a plain percentage.
+     */
+    public static int parsePercent(String s) {
+        if (s == null)
+            return MISSING;
+        int start = 0;
+        int end = s.length();
+        while (start < end && Character.isWhitespace(s.charAt(start)))
+            start++;
+        while (end > start && (Character.isWhitespace(s.charAt(end - 1)) || s.charAt(end - 1) == '%'))
+            end--;
+        if (start == end || end - start > 9)
+            return MISSING;
+
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9')
+                return MISSING;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 41 -> "41%", {@link #MISSING} -> "-".
+     */
+    public static String formatPercent(int percent) {
+        return percent == MISSING ? "-" : percent + "%";
+    }
+
+    /**
+     * First number of an indicator text: "42.48" -> 42.48, "14–15" -> 14.
+     * Returns NaN if the text does not start with a number.
+     */
+    public static double parseLeadingNumber(String s) {
+        if (s == null)
+            return Double.NaN;
+        int end = 0;
+        boolean dot = false;
+        while (end < s.length()) {
+            char c = s.charAt(end);
+            if (c >= '0' && c <= '9') {
+                end++;
+            } else if (c == '.' && !dot) {
+                dot = true;
+                end++;
+            } else {
+                break;
+            }
+        }
+        if (end > 0 && s.charAt(end - 1) == '.')
+            end--; // "14." at the end of a sentence
+        if (end == 0)
+            return Double.NaN;
+        return Double.parseDouble(s.substring(0, end));
+    }
+}
@@ -1,7 +1,8 @@
 package com.antigravity.sentiment.ui;
 
-import com.antigravity.sentiment.logic.FullAnalysisParser;
+import com.antigravity.sentiment.logic.SentimentCrawler;
 import com.antigravity.sentiment.model.FullAnalysisData;
+import com.antigravity.sentiment.model.ReportValues;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -19,7 +20,6 @@ import javafx.stage.Stage;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.Map;
 
 /**
@@ -28,14 +28,21 @@ import java.util.Map;
  */
 public class AnalysisDetailWindow {
 
+    private final SentimentCrawler crawler;
     private Stage stage;
     private FullAnalysisData analysisData;
 
+    /**
+     * @param crawler loads the analysis, so files parsed by the crawl or the
+     *                history are served from its cache
+     */
+    public AnalysisDetailWindow(SentimentCrawler crawler) {
+        this.crawler = crawler;
+    }
+
     public void show(String assetName, String date, String filePath) {
         try {
-            String content = Files.readString(new File(filePath).toPath());
-            FullAnalysisParser parser = new FullAnalysisParser();
-            analysisData = parser.parseFullAnalysis(content);
+            analysisData = crawler.loadAnalysis(new File(filePath));
         } catch (IOException e) {
             showError("Fehler beim Laden der Datei: " + e.getMessage());
             return;
@@ -82,9 +89,9 @@ public class AnalysisDetailWindow {
 
         XYChart.Series<String, Number> series = new XYChart.Series<>();
 
-        series.getData().add(new XYChart.Data<>("Steigt", parsePercentage(analysisData.getUpProbability())));
-        series.getData().add(new XYChart.Data<>("Seitwärts", parsePercentage(analysisData.getSidewaysProbability())));
-        series.getData().add(new XYChart.Data<>("Fällt", parsePercentage(analysisData.getDownProbability())));
+        series.getData().add(new XYChart.Data<>("Steigt", Math.max(0, analysisData.getUpPercent())));
+        series.getData().add(new XYChart.Data<>("Seitwärts", Math.max(0, analysisData.getSidewaysPercent())));
+        series.getData().add(new XYChart.Data<>("Fällt", Math.max(0, analysisData.getDownPercent())));
 
         barChart.getData().add(series);
 
@@ -137,10 +144,13 @@ public class AnalysisDetailWindow {
         fxBox.setPrefHeight(40);
         fxBox.setPrefWidth(500);
 
-        int longVal = parsePercentage(analysisData.getFxssiLong());
-        int shortVal = parsePercentage(analysisData.getFxssiShort());
+        // Not found in the report -> 50% as before
+        int longVal = analysisData.getFxssiLongPercent() == ReportValues.MISSING ? 50
+                : analysisData.getFxssiLongPercent();
+        int shortVal = analysisData.getFxssiShortPercent() == ReportValues.MISSING ? 50
+                : analysisData.getFxssiShortPercent();
 
-        // Ensure total is 100 for visual if parsing fails
+        // Ensure total is 100 for visual
         if (longVal + shortVal == 0) {
             longVal = 50;
             shortVal = 50;
@@ -207,14 +217,6 @@ public class AnalysisDetailWindow {
         return scrollPane;
     }
 
-    private int parsePercentage(String percentStr) {
-        try {
-            return Integer.parseInt(percentStr.replace("%", "").trim());
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-
     private void showError(String message) {
         Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setTitle("Fehler");
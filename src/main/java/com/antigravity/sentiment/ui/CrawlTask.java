@@ -0,0 +1,79 @@
+package com.antigravity.sentiment.ui;
+
+import com.antigravity.sentiment.logic.CrawlMonitor;
+import com.antigravity.sentiment.logic.SentimentCrawler;
+import com.antigravity.sentiment.model.AssetSnapshot;
+import com.antigravity.sentiment.model.ForecastData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+
+/**
+ * Runs a crawl in the background. Finished rows are handed to the FX thread
+ * in batches (every {@value #BATCH_SIZE} rows or {@value #BATCH_INTERVAL_MS} ms),
+ * so the table fills up while the scan is still running.
+ * Cancel with {@code cancel(false)}: the crawl stops after the current folder.
+ */
+public class CrawlTask extends Task<List<AssetSnapshot>> {
+
+    private static final int BATCH_SIZE = 50;
+    private static final long BATCH_INTERVAL_MS = 100;
+
+    private final SentimentCrawler crawler;
+    private final String rootPath;
+    private final Consumer<List<ForecastData>> rowConsumer;
+
+    private List<ForecastData> batch = new ArrayList<>();
+    private long lastFlush = System.currentTimeMillis();
+
+    /**
+     * @param rowConsumer called on the FX thread with each batch of new rows,
+     *                    not called anymore once the task was cancelled
+     */
+    public CrawlTask(SentimentCrawler crawler, String rootPath, Consumer<List<ForecastData>> rowConsumer) {
+        this.crawler = crawler;
+        this.rootPath = rootPath;
+        this.rowConsumer = rowConsumer;
+    }
+
+    @Override
+    protected List<AssetSnapshot> call() {
+        updateMessage("Suche Asset-Ordner...");
+        List<AssetSnapshot> result = crawler.crawl(rootPath, new CrawlMonitor() {
+            @Override
+            public void folderDone(AssetSnapshot snapshot, int foldersDone, int foldersTotal, int filesDone) {
+                if (snapshot != null)
+                    batch.add(new ForecastData(snapshot));
+
+                updateProgress(foldersDone, foldersTotal);
+                updateMessage(foldersDone + " / " + foldersTotal + " Ordner, " + filesDone + " Dateien");
+
+                long now = System.currentTimeMillis();
+                if (batch.size() >= BATCH_SIZE || now - lastFlush >= BATCH_INTERVAL_MS)
+                    flush();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return CrawlTask.this.isCancelled();
+            }
+        });
+        flush();
+        return result;
+    }
+
+    private void flush() {
+        lastFlush = System.currentTimeMillis();
+        if (batch.isEmpty())
+            return;
+
+        List<ForecastData> rows = batch;
+        batch = new ArrayList<>();
+        Platform.runLater(() -> {
+            if (!isCancelled())
+                rowConsumer.accept(rows);
+        });
+    }
+}